@@ -0,0 +1,55 @@
+package academy.softserve.os.benchmark;
+
+import academy.softserve.os.service.address.AddressKey;
+import academy.softserve.os.service.address.AddressNormalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddressNormalisationBenchmark {
+
+    public String city = " Харків";
+    public String street = "Сумська   вул.";
+    public String house = "буд.23 ";
+    public String room = "  вітальня  ";
+
+    // the lambda AddressService.createAddress used to apply to each of the four fields
+    private final UnaryOperator<String> removingExtraSpaces = s -> s.toUpperCase().replaceAll("\\s+", " ").trim();
+
+    @Benchmark
+    public void regexLambda(Blackhole blackhole) {
+        blackhole.consume(removingExtraSpaces.apply(city));
+        blackhole.consume(removingExtraSpaces.apply(street));
+        blackhole.consume(removingExtraSpaces.apply(house));
+        blackhole.consume(removingExtraSpaces.apply(room));
+    }
+
+    @Benchmark
+    public void normalizer(Blackhole blackhole) {
+        blackhole.consume(AddressNormalizer.normalize(city));
+        blackhole.consume(AddressNormalizer.normalize(street));
+        blackhole.consume(AddressNormalizer.normalize(house));
+        blackhole.consume(AddressNormalizer.normalize(room));
+    }
+
+    @Benchmark
+    public AddressKey addressKey() {
+        return AddressKey.of(city, street, house, room);
+    }
+}
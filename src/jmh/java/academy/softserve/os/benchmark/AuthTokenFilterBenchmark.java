@@ -0,0 +1,78 @@
+package academy.softserve.os.benchmark;
+
+import academy.softserve.os.api.config.jwt.AuthTokenFilter;
+import academy.softserve.os.api.config.jwt.JwtUtils;
+import academy.softserve.os.model.Role;
+import academy.softserve.os.model.RoleAssignment;
+import academy.softserve.os.model.User;
+import academy.softserve.os.model.UserDetailsImpl;
+import academy.softserve.os.repository.UserRepository;
+import academy.softserve.os.service.cache.PrincipalCache;
+import academy.softserve.os.service.impl.UserServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthTokenFilterBenchmark {
+
+    @Param({"false", "true"})
+    public boolean stateless;
+
+    private AuthTokenFilter filter;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        var user = User.builder()
+                .id(1L)
+                .login("worker")
+                .passwordHash("hash")
+                .roles(List.of(new RoleAssignment(Role.ROLE_WORKER)))
+                .build();
+        UserRepository userRepository = Stubs.of(UserRepository.class,
+                Map.of("findByLogin", args -> Optional.of(user)));
+        var principalCache = new PrincipalCache(10_000, 300_000);
+        var jwtUtils = new JwtUtils(JwtBenchmark.SECRET, 86_400_000, stateless, 900_000, 43_200_000, 10_000);
+
+        filter = new AuthTokenFilter();
+        filter.setJwtUtils(jwtUtils);
+        filter.setPrincipalCache(principalCache);
+        filter.setUserDetailsService(new UserServiceImpl(userRepository, principalCache));
+
+        var principal = new UserDetailsImpl(1L, 1L, "worker", null, List.of(new SimpleGrantedAuthority("ROLE_WORKER")));
+        request = new MockHttpServletRequest("GET", "/api/address");
+        request.addHeader("Authorization", "Bearer " + jwtUtils.generateJwtToken(principal));
+    }
+
+    @Benchmark
+    public Object doFilter() throws Exception {
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
@@ -0,0 +1,63 @@
+package academy.softserve.os.benchmark;
+
+import academy.softserve.os.api.config.jwt.JwtUtils;
+import academy.softserve.os.model.UserDetailsImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+    static final String SECRET =
+            "MegaLargeSigningSecretKeyForDemoApplicationMegaLargeSigningSecretKeyForDemoApplication";
+
+    private UserDetailsImpl principal;
+    private JwtUtils cachingJwtUtils;
+    private JwtUtils uncachedJwtUtils;
+    private String token;
+    private String[] alternatingTokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        principal = new UserDetailsImpl(1L, 1L, "worker", null, List.of(new SimpleGrantedAuthority("ROLE_WORKER")));
+        cachingJwtUtils = new JwtUtils(SECRET, 86_400_000, false, 900_000, 43_200_000, 10_000);
+        // a single-entry cache fed two tokens in turn never hits, so every call verifies the signature
+        uncachedJwtUtils = new JwtUtils(SECRET, 86_400_000, false, 900_000, 43_200_000, 1);
+        token = cachingJwtUtils.generateJwtToken(principal);
+        var otherPrincipal = new UserDetailsImpl(2L, 2L, "other", null, principal.getAuthorities());
+        alternatingTokens = new String[]{token, cachingJwtUtils.generateJwtToken(otherPrincipal)};
+    }
+
+    @Benchmark
+    public String sign() {
+        return cachingJwtUtils.generateJwtToken(principal);
+    }
+
+    @Benchmark
+    public Object verify() {
+        next ^= 1;
+        return uncachedJwtUtils.parseClaims(alternatingTokens[next]);
+    }
+
+    @Benchmark
+    public Object verifyCached() {
+        return cachingJwtUtils.parseClaims(token);
+    }
+}
@@ -0,0 +1,73 @@
+package academy.softserve.os.benchmark;
+
+import academy.softserve.os.mapper.EquipmentMapper;
+import academy.softserve.os.mapper.TaskMapper;
+import academy.softserve.os.model.Address;
+import academy.softserve.os.model.Client;
+import academy.softserve.os.model.Equipment;
+import academy.softserve.os.model.Job;
+import academy.softserve.os.model.Order;
+import academy.softserve.os.model.Task;
+import academy.softserve.os.model.Worker;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private EquipmentMapper equipmentMapper;
+    private TaskMapper taskMapper;
+    private Equipment equipment;
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        equipmentMapper = Mappers.getMapper(EquipmentMapper.class);
+        taskMapper = Mappers.getMapper(TaskMapper.class);
+
+        equipment = Equipment.builder()
+                .id(1L)
+                .description("Кондиціонер 1")
+                .client(Client.builder().id(1L).name("Обленерго").build())
+                .address(Address.builder().id(1L).city("ХАРКІВ").street("СУМСЬКА ВУЛ.").house("2").room("23").build())
+                .build();
+        var worker = Worker.builder().id(1L).firstName("John").lastName("Smith").build();
+        task = Task.builder()
+                .id(1L)
+                .partFactor(0.5)
+                .comment("Replaced the filter")
+                .timeCreate(LocalDateTime.now())
+                .order(Order.builder().id(1L).build())
+                .job(Job.builder().id(1L).build())
+                .worker(worker)
+                .creator(worker)
+                .build();
+    }
+
+    @Benchmark
+    public Object toEquipmentDTO() {
+        return equipmentMapper.toEquipmentDTO(equipment);
+    }
+
+    @Benchmark
+    public Object toTaskDTO() {
+        return taskMapper.toTaskDTO(task);
+    }
+}
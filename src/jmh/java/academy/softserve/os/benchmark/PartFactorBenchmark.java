@@ -0,0 +1,93 @@
+package academy.softserve.os.benchmark;
+
+import academy.softserve.os.api.dto.PriceDTO;
+import academy.softserve.os.model.Job;
+import academy.softserve.os.model.Order;
+import academy.softserve.os.model.Worker;
+import academy.softserve.os.repository.JobRepository;
+import academy.softserve.os.repository.OrderRepository;
+import academy.softserve.os.repository.PriceRepository;
+import academy.softserve.os.repository.TaskRepository;
+import academy.softserve.os.repository.WorkerRepository;
+import academy.softserve.os.service.command.CreateTaskCommand;
+import academy.softserve.os.service.cost.OrderCostLedger;
+import academy.softserve.os.service.impl.TaskServiceImpl;
+import academy.softserve.os.service.price.PriceBook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * TaskServiceImpl.createTask against in-memory repositories for orders that already hold the given number of tasks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PartFactorBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int tasksPerOrder;
+
+    private TaskServiceImpl taskService;
+    private CreateTaskCommand command;
+
+    @Setup
+    public void setUp() {
+        var worker = Worker.builder().id(1L).build();
+        var job = Job.builder().id(1L).build();
+        // the check reads the running total kept on the order, so its cost must not depend on tasksPerOrder
+        var allocatedPartFactor = IntStream.range(0, tasksPerOrder)
+                .mapToDouble(i -> 0.5 / tasksPerOrder)
+                .sum();
+
+        TaskRepository taskRepository = Stubs.of(TaskRepository.class, Map.of(
+                "saveAndFlush", args -> args[0]));
+        OrderRepository orderRepository = Stubs.of(OrderRepository.class, Map.of(
+                "findByIdForUpdate", args -> Optional.of(Order.builder()
+                        .id(1L)
+                        .allocatedPartFactor(allocatedPartFactor)
+                        .build())));
+        WorkerRepository workerRepository = Stubs.of(WorkerRepository.class, Map.of(
+                "getReferenceById", args -> worker));
+        JobRepository jobRepository = Stubs.of(JobRepository.class, Map.of(
+                "getReferenceById", args -> job));
+
+        PriceRepository priceRepository = Stubs.of(PriceRepository.class, Map.of(
+                "findDTOsByJobId", args -> List.of(new PriceDTO(1L, BigDecimal.TEN, BigDecimal.ONE, LocalDate.MIN))));
+        var orderCostLedger = new OrderCostLedger(taskRepository, new PriceBook(priceRepository, 100, 60_000), 100, 60_000);
+
+        taskService = new TaskServiceImpl(taskRepository, orderRepository, workerRepository, jobRepository,
+                orderCostLedger);
+        command = CreateTaskCommand.builder()
+                .orderId(1L)
+                .workerId(1L)
+                .createWorkerId(1L)
+                .jobId(1L)
+                .partFactor(0.1)
+                .build();
+    }
+
+    @Benchmark
+    public Object createTask() {
+        return taskService.createTask(command);
+    }
+}
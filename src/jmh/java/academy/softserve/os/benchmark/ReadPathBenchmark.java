@@ -0,0 +1,107 @@
+package academy.softserve.os.benchmark;
+
+import academy.softserve.os.OrderSystemApplication;
+import academy.softserve.os.api.dto.EquipmentDTO;
+import academy.softserve.os.mapper.EquipmentMapper;
+import academy.softserve.os.model.Address;
+import academy.softserve.os.model.Client;
+import academy.softserve.os.model.Equipment;
+import academy.softserve.os.repository.AddressRepository;
+import academy.softserve.os.repository.ClientRepository;
+import academy.softserve.os.repository.EquipmentRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Listing every equipment row as loaded entities mapped by MapStruct versus the JPQL constructor projection.
+ * Run with -prof gc to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReadPathBenchmark {
+
+    @Param({"100", "1000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnly;
+    private EntityManager entityManager;
+    private EquipmentMapper equipmentMapper;
+    private EquipmentRepository equipmentRepository;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(OrderSystemApplication.class)
+                .properties("server.port=0", "spring.datasource.url=jdbc:h2:mem:read-path-" + rows)
+                .run();
+        var transactionManager = context.getBean(PlatformTransactionManager.class);
+        entityManager = context.getBean(EntityManager.class);
+        equipmentMapper = context.getBean(EquipmentMapper.class);
+        equipmentRepository = context.getBean(EquipmentRepository.class);
+        var clientRepository = context.getBean(ClientRepository.class);
+        var addressRepository = context.getBean(AddressRepository.class);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            var clients = clientRepository.saveAll(IntStream.range(0, 10)
+                    .mapToObj(i -> Client.builder().name("Client " + i).build())
+                    .collect(Collectors.toList()));
+            var addresses = addressRepository.saveAll(IntStream.range(0, 10)
+                    .mapToObj(i -> Address.builder().city("ХАРКІВ").street("СУМСЬКА ВУЛ.").house(String.valueOf(i)).build())
+                    .collect(Collectors.toList()));
+            equipmentRepository.saveAll(IntStream.range(0, rows)
+                    .mapToObj(i -> Equipment.builder()
+                            .description("Кондиціонер " + i)
+                            .client(clients.get(i % clients.size()))
+                            .address(addresses.get(i % addresses.size()))
+                            .build())
+                    .collect(Collectors.toList()));
+        });
+
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<EquipmentDTO> entitiesThenMapper() {
+        return readOnly.execute(status -> entityManager
+                .createQuery("select e from Equipment e left join fetch e.client left join fetch e.address order by e.id",
+                        Equipment.class)
+                .getResultStream()
+                .map(equipmentMapper::toEquipmentDTO)
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public List<EquipmentDTO> projection() {
+        return readOnly.execute(status -> equipmentRepository.findAllDTOs());
+    }
+}
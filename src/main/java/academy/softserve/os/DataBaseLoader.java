@@ -3,7 +3,6 @@ package academy.softserve.os;
 import academy.softserve.os.mapper.EquipmentMapper;
 import academy.softserve.os.model.Address;
 import academy.softserve.os.model.Client;
-import academy.softserve.os.model.Equipment;
 import academy.softserve.os.repository.AddressRepository;
 import academy.softserve.os.repository.ClientRepository;
 import academy.softserve.os.repository.EquipmentRepository;
@@ -26,34 +25,10 @@ public class DataBaseLoader implements CommandLineRunner {
     }
 
     private void tableEquipmentLoader() {
-        equipmentRepository.save(
-                Equipment.builder()
-                        .description("Кондиционер 1")
-                        .client(clientRepository.findById(1L).get())
-                        .address(addressRepository.findById(4L).get())
-                        .build()
-        );
-        equipmentRepository.save(
-                Equipment.builder()
-                        .description("Кондиционер 2")
-                        .client(clientRepository.findById(1L).get())
-                        .address(addressRepository.findById(2L).get())
-                        .build()
-        );
-        equipmentRepository.save(
-                Equipment.builder()
-                        .description("Охолоджувач")
-                        .client(clientRepository.findById(2L).get())
-                        .address(addressRepository.findById(3L).get())
-                        .build()
-        );
-        equipmentRepository.save(
-                Equipment.builder()
-                        .description("Осушувач")
-                        .client(clientRepository.findById(3L).get())
-                        .address(addressRepository.findById(1L).get())
-                        .build()
-        );
+        equipmentRepository.upsert("Кондиционер 1", 1L, 4L);
+        equipmentRepository.upsert("Кондиционер 2", 1L, 2L);
+        equipmentRepository.upsert("Охолоджувач", 2L, 3L);
+        equipmentRepository.upsert("Осушувач", 3L, 1L);
     }
 
     private void tableClientLoader() {
@@ -5,28 +5,30 @@ import academy.softserve.os.api.dto.command.CreateAddressCommandDTO;
 import academy.softserve.os.mapper.AddressMapper;
 import academy.softserve.os.service.AddressService;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api")
 @AllArgsConstructor
 public class AddressController {
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final AddressMapper mapper;
     private final AddressService addressService;
 
-    @Transactional
     @PreAuthorize("hasRole('ADMIN')")
     @PostMapping("/admin/address")
     public ResponseEntity<AddressDTO> createAddress(@RequestBody CreateAddressCommandDTO commandDTO) {
@@ -36,18 +38,26 @@ public class AddressController {
 
     @PreAuthorize("hasAnyRole('ADMIN', 'WORKER')")
     @GetMapping("/address")
-    public ResponseEntity<List<AddressDTO>> getAddress() {
-        var addresses = addressService.findAddresses().stream()
-                .map(mapper::toAddressDTO)
-                .collect(Collectors.toList());
-        return new ResponseEntity<>(addresses, HttpStatus.OK);
+    public ResponseEntity<List<AddressDTO>> getAddress(@RequestParam(required = false) Long after,
+                                                       @RequestParam(defaultValue = "100") int limit) {
+        var page = addressService.findAddresses(after, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+        var addresses = page.getContent();
+        var headers = new HttpHeaders();
+        if (page.hasNext()) {
+            var next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", addresses.get(addresses.size() - 1).getId())
+                    .replaceQueryParam("limit", page.getSize())
+                    .toUriString();
+            headers.add(HttpHeaders.LINK, String.format("<%s>; rel=\"next\"", next));
+        }
+        return new ResponseEntity<>(addresses, headers, HttpStatus.OK);
     }
 
     @PreAuthorize("hasAnyRole('ADMIN', 'WORKER')")
     @GetMapping("/address/{id}")
     public ResponseEntity<AddressDTO> getAddressById(@PathVariable Long id) {
         return addressService.getAddressById(id)
-                .map(address -> new ResponseEntity<>(mapper.toAddressDTO(address), HttpStatus.OK))
+                .map(address -> new ResponseEntity<>(address, HttpStatus.OK))
                 .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 }
@@ -3,12 +3,20 @@ package academy.softserve.os.api;
 import academy.softserve.os.api.config.jwt.JwtUtils;
 import academy.softserve.os.api.dto.JwtResponseDTO;
 import academy.softserve.os.api.dto.command.LoginCommandDTO;
+import academy.softserve.os.model.UserDetailsImpl;
+import academy.softserve.os.service.cache.PrincipalCache;
+import io.jsonwebtoken.Claims;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Optional;
+
 @RestController
 @AllArgsConstructor
 @RequestMapping("/api/auth")
@@ -17,6 +25,8 @@ public class AuthController {
 
     private final AuthenticationManager authenticationManager;
     private final JwtUtils jwtUtils;
+    private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
 
     @PostMapping("/signin")
     public ResponseEntity<JwtResponseDTO> authUser(@RequestBody LoginCommandDTO loginCommandDTO) {
@@ -29,4 +39,23 @@ public class AuthController {
         var jwt = jwtUtils.generateJwtToken(authentication);
         return ResponseEntity.ok(new JwtResponseDTO(jwt));
     }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<JwtResponseDTO> refreshToken(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
+        if (!jwtUtils.isStateless()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        var jwt = jwtUtils.parseBearerToken(authorization);
+        var claims = jwt != null ? jwtUtils.parseClaims(jwt) : Optional.<Claims>empty();
+        if (claims.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        var username = claims.get().getSubject();
+        principalCache.invalidate(username);
+        var userDetails = (UserDetailsImpl) userDetailsService.loadUserByUsername(username);
+        return jwtUtils.refreshJwtToken(claims.get(), userDetails)
+                .map(refreshed -> ResponseEntity.ok(new JwtResponseDTO(refreshed)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+    }
 }
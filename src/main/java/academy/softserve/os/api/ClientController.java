@@ -9,7 +9,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -20,19 +19,18 @@ import org.springframework.web.bind.annotation.RestController;
 
 import javax.validation.Valid;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/clients")
 public class ClientController {
+    private static final int MAX_SEARCH_LIMIT = 100;
 
     private final ClientService clientService;
     private final ClientMapper mapper;
 
     @PreAuthorize("hasRole('ADMIN')")
     @PostMapping
-    @Transactional
     @Operation(summary = "Create a new Client")
     public ResponseEntity<ClientDTO> createClient(@RequestBody @Valid CreateClientCommandDTO clientCommandDTO) {
         var client = clientService.createClient(mapper.toModel(clientCommandDTO));
@@ -42,23 +40,18 @@ public class ClientController {
 
     @PreAuthorize("hasAnyRole('WORKER', 'ADMIN')")
     @GetMapping("/{id}")
-    @Transactional
     @Operation(summary = "Find Client by ID")
     public ResponseEntity<ClientDTO> findClientById(@PathVariable Long id) {
         return clientService.findClientById(id)
-                .map(mapper::toDTO)
                 .map(ResponseEntity::ok)
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).build());
     }
 
     @PreAuthorize("hasAnyRole('WORKER', 'ADMIN')")
     @GetMapping
-    @Transactional
     @Operation(summary = "Find all Clients by Name")
-    public ResponseEntity<List<ClientDTO>> findAllClientsByName(@RequestParam String name) {
-        var clients = clientService.findAllClientsByName(name).stream()
-                .map(mapper::toDTO)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(clients);
+    public ResponseEntity<List<ClientDTO>> findAllClientsByName(@RequestParam String name,
+                                                                @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(clientService.findAllClientsByName(name, Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT))));
     }
 }
@@ -4,11 +4,11 @@ import academy.softserve.os.api.dto.EquipmentDTO;
 import academy.softserve.os.api.dto.command.CreateEquipmentCommandDTO;
 import academy.softserve.os.mapper.EquipmentMapper;
 import academy.softserve.os.service.EquipmentService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -17,8 +17,11 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api")
@@ -26,8 +29,8 @@ import java.util.stream.Collectors;
 public class EquipmentController {
     private final EquipmentMapper mapper;
     private final EquipmentService service;
+    private final ObjectMapper objectMapper;
 
-    @Transactional
     @PostMapping("/admin/equipment")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<EquipmentDTO> createEquipment(@RequestBody CreateEquipmentCommandDTO commandDTO) {
@@ -37,16 +40,33 @@ public class EquipmentController {
 
     @GetMapping("/equipment")
     public ResponseEntity<List<EquipmentDTO>> getEquipmentByDescription(@RequestParam(required = false) String description) {
-        var equipment = service.findEquipmentByDescription(description).stream()
-                .map(mapper::toEquipmentDTO)
-                .collect(Collectors.toList());
-        return new ResponseEntity<>(equipment, HttpStatus.OK);
+        return new ResponseEntity<>(service.findEquipmentByDescription(description), HttpStatus.OK);
+    }
+
+    @GetMapping("/equipment/export")
+    public void exportEquipment(HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        var writer = objectMapper.writerFor(EquipmentDTO.class);
+        var outputStream = response.getOutputStream();
+        try {
+            service.exportEquipment(equipment -> {
+                try {
+                    outputStream.write(writer.writeValueAsBytes(equipment));
+                    outputStream.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
     }
 
     @GetMapping("/equipment/{id}")
     public ResponseEntity<EquipmentDTO> getEquipmentById(@PathVariable Long id) {
         return service.getEquipmentById(id)
-                .map(equipment -> new ResponseEntity<>(mapper.toEquipmentDTO(equipment), HttpStatus.OK))
+                .map(equipment -> new ResponseEntity<>(equipment, HttpStatus.OK))
                 .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 }
@@ -0,0 +1,53 @@
+package academy.softserve.os.api;
+
+import academy.softserve.os.api.dto.ImportStatusDTO;
+import academy.softserve.os.service.importing.ImportFormat;
+import academy.softserve.os.service.importing.ImportJob;
+import academy.softserve.os.service.importing.ImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/admin/import")
+@RequiredArgsConstructor
+public class ImportController {
+    private final ImportService importService;
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(consumes = {ImportFormat.TEXT_CSV_VALUE, ImportFormat.APPLICATION_NDJSON_VALUE,
+            MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Import clients, addresses and equipment from CSV or JSON lines")
+    public ResponseEntity<ImportStatusDTO> importEquipment(@RequestHeader("Content-Type") MediaType contentType,
+                                                           HttpServletRequest request) throws IOException {
+        var job = importService.submit(ImportFormat.of(contentType), request.getInputStream());
+        var location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(job.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(job.snapshot());
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/{id}")
+    @Operation(summary = "Progress of an import")
+    public ResponseEntity<ImportStatusDTO> getImportStatus(@PathVariable UUID id) {
+        return importService.findJob(id)
+                .map(ImportJob::snapshot)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
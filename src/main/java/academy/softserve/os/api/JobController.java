@@ -1,19 +1,29 @@
 package academy.softserve.os.api;
 
 import academy.softserve.os.api.dto.JobDTO;
+import academy.softserve.os.api.dto.PriceDTO;
 import academy.softserve.os.api.dto.command.CreateJobCommandDTO;
+import academy.softserve.os.api.dto.command.CreateJobsCommandDTO;
 import academy.softserve.os.mapper.JobMapper;
 import academy.softserve.os.service.JobService;
+import academy.softserve.os.service.PriceService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.validation.Valid;
+import java.time.LocalDate;
+import java.util.List;
+
 
 @RequiredArgsConstructor
 @RestController
@@ -21,8 +31,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class JobController {
     private final JobService jobService;
     private final JobMapper jobMapper;
+    private final PriceService priceService;
 
-    @Transactional
     @PreAuthorize("hasRole('ADMIN')")
     @PostMapping
     public ResponseEntity<JobDTO> createJob(@RequestBody CreateJobCommandDTO commandDTO) {
@@ -31,4 +41,22 @@ public class JobController {
 
         return ResponseEntity.status(HttpStatus.CREATED).body(jobDto);
     }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/batch")
+    public ResponseEntity<List<JobDTO>> createJobs(@RequestBody @Valid CreateJobsCommandDTO commandDTO) {
+        var jobs = jobService.createJobs(jobMapper.toModels(commandDTO.getJobs()));
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(jobMapper.toDtos(jobs));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/{id}/price")
+    public ResponseEntity<PriceDTO> getPriceAt(@PathVariable Long id,
+                                               @RequestParam(required = false)
+                                               @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate at) {
+        return priceService.findPriceAt(id, at == null ? LocalDate.now() : at)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
 }
@@ -0,0 +1,34 @@
+package academy.softserve.os.api;
+
+import academy.softserve.os.api.dto.ConnectionUsageDTO;
+import academy.softserve.os.repository.support.ConnectionUsageMetrics;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/metrics")
+@RequiredArgsConstructor
+public class MetricsController {
+    private final ConnectionUsageMetrics connectionUsageMetrics;
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/connections")
+    @Operation(summary = "Connection pool hold and acquire times")
+    public ResponseEntity<ConnectionUsageDTO> getConnectionUsage() {
+        return ResponseEntity.ok(connectionUsageMetrics.snapshot());
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @DeleteMapping("/connections")
+    @Operation(summary = "Reset connection pool counters")
+    public ResponseEntity<Void> resetConnectionUsage() {
+        connectionUsageMetrics.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
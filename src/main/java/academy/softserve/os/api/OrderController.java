@@ -1,32 +1,42 @@
 package academy.softserve.os.api;
 
+import academy.softserve.os.api.dto.OrderCostDTO;
 import academy.softserve.os.api.dto.OrderDTO;
 import academy.softserve.os.api.dto.command.CreateOrderCommandDTO;
 import academy.softserve.os.mapper.OrderMapper;
+import academy.softserve.os.repository.OrderFilter;
 import academy.softserve.os.service.OrderService;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import javax.validation.Valid;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/order")
 public class OrderController {
+    private static final int MAX_PAGE_SIZE = 1000;
 
     private final OrderService orderService;
     private final OrderMapper mapper;
 
-    @Transactional
     @PreAuthorize("hasRole('ADMIN')")
     @PostMapping
     @Operation(summary = "Create a new Order")
@@ -38,4 +48,62 @@ public class OrderController {
                 .map(orderDTO -> ResponseEntity.status(HttpStatus.CREATED).body(orderDTO))
                 .orElseGet(() -> ResponseEntity.badRequest().build());
     }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/{id}/cost")
+    @Operation(summary = "Client and worker totals of an Order at the prices effective when its tasks were created")
+    public ResponseEntity<OrderCostDTO> getOrderCost(@PathVariable Long id) {
+        return orderService.findOrderCost(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping
+    @Operation(summary = "Orders matching the filters, by placement date; date ranges are inclusive")
+    public ResponseEntity<List<OrderDTO>> getOrders(
+            @RequestParam(required = false) Long clientId,
+            @RequestParam(required = false) Integer phase,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate placedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate placedTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate closedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate closedTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime afterPlacementDate,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "100") int limit) {
+        if ((afterPlacementDate == null) != (afterId == null)) {
+            return ResponseEntity.badRequest().build();
+        }
+        var filter = OrderFilter.builder()
+                .clientId(clientId)
+                .phase(phase)
+                .placedFrom(startOf(placedFrom))
+                .placedBefore(startOfNextDay(placedTo))
+                .closedFrom(startOf(closedFrom))
+                .closedBefore(startOfNextDay(closedTo))
+                .afterPlacementDate(afterPlacementDate)
+                .afterId(afterId)
+                .build();
+        var page = orderService.findOrders(filter, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+        var orders = page.getContent();
+        var headers = new HttpHeaders();
+        if (page.hasNext()) {
+            var last = orders.get(orders.size() - 1);
+            var next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("afterPlacementDate", last.getPlacementDate())
+                    .replaceQueryParam("afterId", last.getId())
+                    .replaceQueryParam("limit", page.getSize())
+                    .toUriString();
+            headers.add(HttpHeaders.LINK, String.format("<%s>; rel=\"next\"", next));
+        }
+        return ResponseEntity.ok().headers(headers).body(orders);
+    }
+
+    private static LocalDateTime startOf(LocalDate day) {
+        return day == null ? null : day.atStartOfDay();
+    }
+
+    private static LocalDateTime startOfNextDay(LocalDate day) {
+        return day == null ? null : day.plusDays(1).atStartOfDay();
+    }
 }
@@ -0,0 +1,77 @@
+package academy.softserve.os.api;
+
+import academy.softserve.os.api.dto.PayrollLineDTO;
+import academy.softserve.os.service.payroll.PayrollService;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/admin/payroll")
+@RequiredArgsConstructor
+public class PayrollController {
+    private static final String HEADER = "worker_id,first_name,last_name,task_count,unpriced_task_count,earnings\r\n";
+
+    private final PayrollService payrollService;
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping
+    @Operation(summary = "Worker earnings for tasks created in a period, as CSV")
+    public void exportPayroll(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                              HttpServletResponse response) throws IOException {
+        if (from.isAfter(to)) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "from must not be after to");
+            return;
+        }
+        response.setContentType("text/csv");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"payroll-" + from + "-" + to + ".csv\"");
+        var lines = payrollService.exportPayroll(from, to);
+        var writer = new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8);
+        writer.write(HEADER);
+        for (var line : lines) {
+            writeLine(writer, line);
+        }
+        writer.flush();
+    }
+
+    private static void writeLine(Writer writer, PayrollLineDTO line) throws IOException {
+        writer.write(String.valueOf(line.getWorkerId()));
+        writer.write(',');
+        writer.write(csv(line.getFirstName()));
+        writer.write(',');
+        writer.write(csv(line.getLastName()));
+        writer.write(',');
+        writer.write(String.valueOf(line.getTaskCount()));
+        writer.write(',');
+        writer.write(String.valueOf(line.getUnpricedTaskCount()));
+        writer.write(',');
+        writer.write(line.getEarnings().toPlainString());
+        writer.write("\r\n");
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
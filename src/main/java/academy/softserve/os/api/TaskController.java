@@ -2,6 +2,7 @@ package academy.softserve.os.api;
 
 import academy.softserve.os.api.dto.TaskDTO;
 import academy.softserve.os.api.dto.command.CreateTaskCommandDTO;
+import academy.softserve.os.api.dto.command.CreateTasksCommandDTO;
 import academy.softserve.os.mapper.TaskMapper;
 import academy.softserve.os.model.User;
 import academy.softserve.os.model.UserDetailsImpl;
@@ -18,6 +19,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.validation.Valid;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -40,4 +42,17 @@ public class TaskController {
         return new ResponseEntity<>((taskDTO), HttpStatus.CREATED);
     }
 
+    @PostMapping("/api/task/batch")
+    @PreAuthorize("hasRole('WORKER')")
+    public ResponseEntity<List<TaskDTO>> createTasks(@RequestBody @Valid CreateTasksCommandDTO createTasksCommandDTO,
+                                                     @AuthenticationPrincipal UserDetails userDetails) {
+        var createTaskCommands = taskMapper.toCreateTaskCommands(createTasksCommandDTO.getTasks());
+        if (userDetails instanceof UserDetailsImpl) {
+            var workerId = ((UserDetailsImpl) userDetails).getWorkerId();
+            createTaskCommands.forEach(command -> command.setCreateWorkerId(workerId));
+        }
+        var tasks = taskService.createTasks(createTaskCommands);
+        return new ResponseEntity<>(taskMapper.toTaskDTOs(tasks), HttpStatus.CREATED);
+    }
+
 }
@@ -13,7 +13,6 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
-import javax.transaction.Transactional;
 import javax.validation.Valid;
 
 @RestController
@@ -25,7 +24,6 @@ public class WorkerController {
         this.workerService = workerService;
     }
 
-    @Transactional
     @PreAuthorize("hasRole('ADMIN')")
     @PostMapping("api/admin/worker")
     @Operation(summary = "Create a new Worker")
@@ -1,15 +1,34 @@
 package academy.softserve.os.api.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.Map;
 
 @Configuration
 public class PasswordEncoderConfiguration {
+    private static final String BCRYPT = "bcrypt";
+    private static final String PBKDF2 = "pbkdf2";
 
+    /**
+     * New hashes are written as {@code {id}hash} with the configured encoder. Hashes stored without a prefix are
+     * verified as BCrypt, and any hash with a different id, or a BCrypt hash with a weaker cost than the configured
+     * strength, is re-encoded on the next successful login. Lowering the strength does not re-encode existing hashes.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder(){
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${app.passwordEncoder}") String encodingId,
+                                           @Value("${app.bcryptStrength}") int bcryptStrength) {
+        var bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        Map<String, PasswordEncoder> encoders = Map.of(
+                BCRYPT, bcrypt,
+                PBKDF2, new Pbkdf2PasswordEncoder());
+        var passwordEncoder = new DelegatingPasswordEncoder(encodingId, encoders);
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return passwordEncoder;
     }
 }
@@ -1,11 +1,13 @@
 package academy.softserve.os.api.config.jwt;
 
+import academy.softserve.os.service.cache.PrincipalCache;
 import academy.softserve.os.service.impl.UserServiceImpl;
+import io.jsonwebtoken.Claims;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import javax.servlet.FilterChain;
@@ -13,16 +15,17 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 public class AuthTokenFilter extends OncePerRequestFilter {
 
-    private static final String TOKEN_TYPE = "Bearer ";
-
     private JwtUtils jwtUtils;
 
     private UserServiceImpl userDetailsService;
 
+    private PrincipalCache principalCache;
+
     @Autowired
     public void setJwtUtils(JwtUtils jwtUtils) {
         this.jwtUtils = jwtUtils;
@@ -33,15 +36,23 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         this.userDetailsService = userDetailsService;
     }
 
+    @Autowired
+    public void setPrincipalCache(PrincipalCache principalCache) {
+        this.principalCache = principalCache;
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
         var jwt = parseJwt(request);
-        if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-            var username = jwtUtils.getUserNameFromJwtToken(jwt);
-
-            var userDetails = userDetailsService.loadUserByUsername(username);
+        var claims = jwt != null ? jwtUtils.parseClaims(jwt) : Optional.<Claims>empty();
+        if (claims.isPresent()) {
+            UserDetails userDetails = jwtUtils.isStateless() ? jwtUtils.getUserDetailsFromClaims(claims.get()) : null;
+            if (userDetails == null) {
+                var username = claims.get().getSubject();
+                userDetails = principalCache.get(username, userDetailsService::loadUserByUsername);
+            }
             var authenticationToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
             SecurityContextHolder.getContext().setAuthentication(authenticationToken);
         }
@@ -50,12 +61,6 @@ public class AuthTokenFilter extends OncePerRequestFilter {
     }
 
     private String parseJwt(HttpServletRequest request) {
-        var headerAuth = request.getHeader("Authorization");
-
-        if (StringUtils.hasText(headerAuth) && headerAuth.startsWith(TOKEN_TYPE)) {
-            return headerAuth.split(TOKEN_TYPE)[1];
-        }
-
-        return null;
+        return jwtUtils.parseBearerToken(request.getHeader("Authorization"));
     }
 }
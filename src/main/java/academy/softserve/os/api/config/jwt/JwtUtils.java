@@ -1,47 +1,176 @@
 package academy.softserve.os.api.config.jwt;
 
 import academy.softserve.os.model.UserDetailsImpl;
+import academy.softserve.os.service.cache.ExpiringLruCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
+import java.security.Key;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Component
 @Slf4j
 public class JwtUtils {
-    @Value("${app.jwtSecret}")
-    private String jwtSecret;
-    @Value("${app.jwtExpirationMs}")
-    private int jwtExpirationMs;
+    private static final String TOKEN_TYPE = "Bearer ";
+    private static final String USER_ID_CLAIM = "id";
+    private static final String WORKER_ID_CLAIM = "workerId";
+    private static final String ROLES_CLAIM = "roles";
+    private static final String AUTH_TIME_CLAIM = "authTime";
+
+    private final Key signingKey;
+    private final JwtParser parser;
+    private final int jwtExpirationMs;
+    private final boolean jwtStateless;
+    private final int jwtStatelessExpirationMs;
+    private final int jwtMaxSessionMs;
+    // keyed by the whole token rather than a digest of it, so a cache hit can never be forged; values are read-only
+    // snapshots and every caller gets its own Claims over them, so no request can alter what another one sees
+    private final ExpiringLruCache<String, Map<String, Object>> verifiedTokens;
+
+    public JwtUtils(@Value("${app.jwtSecret}") String jwtSecret,
+                    @Value("${app.jwtExpirationMs}") int jwtExpirationMs,
+                    @Value("${app.jwtStateless}") boolean jwtStateless,
+                    @Value("${app.jwtStatelessExpirationMs}") int jwtStatelessExpirationMs,
+                    @Value("${app.jwtMaxSessionMs}") int jwtMaxSessionMs,
+                    @Value("${app.jwtVerifiedCacheSize}") int jwtVerifiedCacheSize) {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.jwtExpirationMs = jwtExpirationMs;
+        this.jwtStateless = jwtStateless;
+        this.jwtStatelessExpirationMs = jwtStatelessExpirationMs;
+        this.jwtMaxSessionMs = jwtMaxSessionMs;
+        this.verifiedTokens = new ExpiringLruCache<>(jwtVerifiedCacheSize,
+                Math.max(jwtExpirationMs, jwtStatelessExpirationMs));
+    }
 
     public String generateJwtToken(Authentication authentication) {
+        return generateJwtToken((UserDetailsImpl) authentication.getPrincipal());
+    }
 
-        var userPrincipal = (UserDetailsImpl) authentication.getPrincipal();
+    public String generateJwtToken(UserDetailsImpl userPrincipal) {
+        var issuedAt = new Date();
+        return generateJwtToken(userPrincipal, issuedAt, issuedAt.getTime());
+    }
 
-        return Jwts.builder()
-                .setSubject((userPrincipal.getUsername())).setIssuedAt(new Date())
-                .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
-                .signWith(SignatureAlgorithm.HS512, jwtSecret).compact();
+    /**
+     * Issues a new stateless token for a principal whose current token has been verified. The original
+     * authentication time is carried over, so refreshing cannot extend a session past {@code app.jwtMaxSessionMs}.
+     * Tokens of the default mode, and tokens without an authentication time, cannot be refreshed.
+     */
+    public Optional<String> refreshJwtToken(Claims claims, UserDetailsImpl userPrincipal) {
+        var authTime = claims.get(AUTH_TIME_CLAIM, Long.class);
+        var issuedAt = new Date();
+        if (!jwtStateless || authTime == null || issuedAt.getTime() >= authTime + jwtMaxSessionMs) {
+            return Optional.empty();
+        }
+        return Optional.of(generateJwtToken(userPrincipal, issuedAt, authTime));
     }
 
-    public boolean validateJwtToken(String jwt) {
+    private String generateJwtToken(UserDetailsImpl userPrincipal, Date issuedAt, long authTime) {
+        var builder = Jwts.builder()
+                .setSubject(userPrincipal.getUsername())
+                .setIssuedAt(issuedAt);
+
+        if (jwtStateless) {
+            var roles = userPrincipal.getAuthorities().stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .collect(Collectors.toList());
+            var expiresAt = Math.min(issuedAt.getTime() + jwtStatelessExpirationMs, authTime + jwtMaxSessionMs);
+            builder.claim(USER_ID_CLAIM, userPrincipal.getId())
+                    .claim(WORKER_ID_CLAIM, userPrincipal.getWorkerId())
+                    .claim(ROLES_CLAIM, roles)
+                    .claim(AUTH_TIME_CLAIM, authTime)
+                    .setExpiration(new Date(expiresAt));
+        } else {
+            builder.setExpiration(new Date(issuedAt.getTime() + jwtExpirationMs));
+        }
+
+        return builder.signWith(signingKey, SignatureAlgorithm.HS512).compact();
+    }
+
+    public Optional<Claims> parseClaims(String jwt) {
+        var cached = verifiedTokens.getIfPresent(jwt);
+        if (cached != null) {
+            return Optional.of(Jwts.claims(cached));
+        }
+
         try {
-            Jwts.parser().setSigningKey(jwtSecret).parseClaimsJws(jwt);
-            return true;
-        } catch (MalformedJwtException | IllegalArgumentException e) {
+            var claims = parser.parseClaimsJws(jwt).getBody();
+            var expiration = claims.getExpiration();
+            if (expiration != null) {
+                verifiedTokens.put(jwt, snapshot(claims), expiration.getTime());
+            } else {
+                // a signed token without exp never expires for the parser; keep it for the cache ttl only
+                verifiedTokens.put(jwt, snapshot(claims));
+            }
+            return Optional.of(claims);
+        } catch (JwtException | IllegalArgumentException e) {
             log.error(e.getMessage());
         }
 
-        return false;
+        return Optional.empty();
+    }
+
+    public boolean validateJwtToken(String jwt) {
+        return parseClaims(jwt).isPresent();
     }
 
     public String getUserNameFromJwtToken(String jwt) {
-        return Jwts.parser().setSigningKey(jwtSecret).parseClaimsJws(jwt).getBody().getSubject();
+        return parseClaims(jwt)
+                .map(Claims::getSubject)
+                .orElseThrow(() -> new JwtException("JWT token is not valid"));
+    }
+
+    public UserDetailsImpl getUserDetailsFromClaims(Claims claims) {
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+        if (roles == null) {
+            return null;
+        }
+
+        List<GrantedAuthority> authorities = roles.stream()
+                .map(role -> new SimpleGrantedAuthority(role.toString()))
+                .collect(Collectors.toList());
+        return new UserDetailsImpl(
+                claims.get(USER_ID_CLAIM, Long.class),
+                claims.get(WORKER_ID_CLAIM, Long.class),
+                claims.getSubject(),
+                null,
+                authorities);
     }
 
+    public String parseBearerToken(String headerAuth) {
+        if (StringUtils.hasText(headerAuth) && headerAuth.startsWith(TOKEN_TYPE)) {
+            return headerAuth.split(TOKEN_TYPE)[1];
+        }
+
+        return null;
+    }
+
+    private static Map<String, Object> snapshot(Claims claims) {
+        var copy = new LinkedHashMap<String, Object>();
+        claims.forEach((name, value) -> copy.put(name, value instanceof List ? List.copyOf((List<?>) value) : value));
+        return Collections.unmodifiableMap(copy);
+    }
+
+    public boolean isStateless() {
+        return jwtStateless;
+    }
 }
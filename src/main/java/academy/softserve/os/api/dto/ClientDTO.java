@@ -1,8 +1,12 @@
 package academy.softserve.os.api.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class ClientDTO {
 
     private Long id;
@@ -0,0 +1,30 @@
+package academy.softserve.os.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConnectionUsageDTO {
+    private long usageCount;
+
+    private long totalUsageMillis;
+
+    private double meanUsageMillis;
+
+    private long maxUsageMillis;
+
+    private double meanAcquireMillis;
+
+    private long timeoutCount;
+
+    private int activeConnections;
+
+    private int idleConnections;
+
+    private int pendingThreads;
+}
@@ -20,4 +20,11 @@ public class EquipmentDTO {
     private ClientDTO client;
 
     private AddressDTO address;
+
+    public EquipmentDTO(Long id, String description, Long clientId, String clientName,
+                        Long addressId, String city, String street, String house, String room) {
+        this(id, description,
+                clientId == null ? null : new ClientDTO(clientId, clientName),
+                addressId == null ? null : new AddressDTO(addressId, city, street, house, room));
+    }
 }
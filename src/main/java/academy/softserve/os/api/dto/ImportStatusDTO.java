@@ -0,0 +1,34 @@
+package academy.softserve.os.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportStatusDTO {
+    private UUID id;
+
+    private String state;
+
+    private long rowsRead;
+
+    private long rowsWritten;
+
+    private long rowsRejected;
+
+    private double rowsPerSecond;
+
+    private Instant startedAt;
+
+    private Instant finishedAt;
+
+    private List<String> errors;
+}
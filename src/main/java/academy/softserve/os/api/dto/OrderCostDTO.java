@@ -0,0 +1,27 @@
+package academy.softserve.os.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderCostDTO {
+    private Long orderId;
+
+    private BigDecimal clientTotal;
+
+    private BigDecimal workerTotal;
+
+    private Map<Long, BigDecimal> workerTotals;
+
+    private int taskCount;
+
+    private int unpricedTaskCount;
+}
@@ -0,0 +1,26 @@
+package academy.softserve.os.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollLineDTO {
+    private Long workerId;
+
+    private String firstName;
+
+    private String lastName;
+
+    private int taskCount;
+
+    private int unpricedTaskCount;
+
+    private BigDecimal earnings;
+}
@@ -0,0 +1,23 @@
+package academy.softserve.os.api.dto.command;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CreateJobsCommandDTO {
+    @NotEmpty(message = "You should specify at least one job")
+    @Size(max = 500, message = "You can create at most 500 jobs at once")
+    private List<@Valid CreateJobCommandDTO> jobs;
+}
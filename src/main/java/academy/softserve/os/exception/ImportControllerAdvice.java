@@ -0,0 +1,25 @@
+package academy.softserve.os.exception;
+
+import academy.softserve.os.api.ImportController;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+
+@RestControllerAdvice(assignableTypes = ImportController.class)
+public class ImportControllerAdvice extends ResponseEntityExceptionHandler {
+
+    @ExceptionHandler(ImportException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ResponseEntity<ErrorApiMessage> handleImportException(ImportException e) {
+        return new ResponseEntity<>(new ErrorApiMessage(e.getMessage()), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(ImportTooLargeException.class)
+    @ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+    public ResponseEntity<ErrorApiMessage> handleImportTooLargeException(ImportTooLargeException e) {
+        return new ResponseEntity<>(new ErrorApiMessage(e.getMessage()), HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+}
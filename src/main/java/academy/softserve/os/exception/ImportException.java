@@ -0,0 +1,7 @@
+package academy.softserve.os.exception;
+
+public class ImportException extends RuntimeException {
+    public ImportException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package academy.softserve.os.exception;
+
+public class ImportTooLargeException extends RuntimeException {
+    public ImportTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package academy.softserve.os.exception;
+
+public class PasswordHashingException extends RuntimeException {
+    public PasswordHashingException(String message) {
+        super(message);
+    }
+}
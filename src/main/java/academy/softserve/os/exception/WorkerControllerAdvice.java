@@ -22,6 +22,11 @@ public class WorkerControllerAdvice extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(PasswordHashingException.class)
+    public ResponseEntity<ErrorApiMessage> handlePasswordHashing(PasswordHashingException e) {
+        return new ResponseEntity<>(new ErrorApiMessage(e.getMessage()), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
 
     @Override
     protected ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException ex, HttpHeaders headers, HttpStatus status, WebRequest request) {
@@ -7,9 +7,15 @@ import academy.softserve.os.model.Job;
 import academy.softserve.os.service.command.CreateJobCommand;
 import org.mapstruct.Mapper;
 
+import java.util.List;
+
 @Mapper(componentModel = "spring", uses = PriceMapper.class)
 public interface JobMapper {
     CreateJobCommand toModel(CreateJobCommandDTO dto);
 
+    List<CreateJobCommand> toModels(List<CreateJobCommandDTO> dtos);
+
     JobDTO toDto(Job job);
+
+    List<JobDTO> toDtos(List<Job> jobs);
 }
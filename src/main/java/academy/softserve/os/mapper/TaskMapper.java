@@ -7,13 +7,19 @@ import academy.softserve.os.service.command.CreateTaskCommand;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
+import java.util.List;
+
 @Mapper(componentModel = "spring")
 public interface TaskMapper {
     CreateTaskCommand toCreateTaskCommand(CreateTaskCommandDTO dto);
 
+    List<CreateTaskCommand> toCreateTaskCommands(List<CreateTaskCommandDTO> dtos);
+
     @Mapping(target = "orderId", source = "task.order.id")
     @Mapping(target = "workerId", source = "task.worker.id")
     @Mapping(target = "creatorId", source = "task.creator.id")
     @Mapping(target = "jobId", source = "task.job.id")
     TaskDTO toTaskDTO(Task task);
+
+    List<TaskDTO> toTaskDTOs(List<Task> tasks);
 }
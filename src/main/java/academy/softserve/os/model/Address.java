@@ -12,6 +12,7 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.OneToMany;
+import javax.persistence.SequenceGenerator;
 import java.util.List;
 
 @Getter
@@ -22,7 +23,8 @@ import java.util.List;
 @NoArgsConstructor
 public class Address {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "address_seq")
+    @SequenceGenerator(name = "address_seq", sequenceName = "address_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "city")
@@ -34,8 +36,9 @@ public class Address {
     @Column(name = "house")
     private String house;
 
-    @Column(name = "room")
-    private String room;
+    @Builder.Default
+    @Column(name = "room", nullable = false)
+    private String room = "";
 
     @OneToMany(mappedBy = "address")
     private List<Equipment> equipments;
@@ -10,11 +10,13 @@ import lombok.Setter;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.JoinColumn;
+import javax.persistence.SequenceGenerator;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
@@ -26,7 +28,8 @@ import java.time.LocalDate;
 @Entity
 public class Price {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "price_seq")
+    @SequenceGenerator(name = "price_seq", sequenceName = "price_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "client_price")
@@ -38,7 +41,7 @@ public class Price {
     @Column(name = "date_since")
     private LocalDate dateSince;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "job_id")
     @JsonIgnore
     private Job job;
@@ -11,6 +11,7 @@ import lombok.ToString;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
@@ -18,6 +19,7 @@ import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
 import javax.persistence.JoinColumn;
 import javax.persistence.CascadeType;
+import javax.persistence.SequenceGenerator;
 import java.util.List;
 
 @Getter
@@ -28,7 +30,8 @@ import java.util.List;
 @Entity
 public class Worker {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "worker_seq")
+    @SequenceGenerator(name = "worker_seq", sequenceName = "worker_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "first_name")
@@ -37,7 +40,7 @@ public class Worker {
     @Column(name = "last_name")
     private String lastName;
 
-    @OneToOne(cascade = CascadeType.ALL)
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
@@ -1,10 +1,31 @@
 package academy.softserve.os.repository;
 
+import academy.softserve.os.api.dto.AddressDTO;
 import academy.softserve.os.model.Address;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface AddressRepository extends JpaRepository<Address, Long> {
-    Optional<Address> findByCityAndStreetAndHouseAndRoom(String city, String street, String house, String room);
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+public interface AddressRepository extends JpaRepository<Address, Long>, AddressUpsertRepository {
+    String SELECT_DTO = "select new academy.softserve.os.api.dto.AddressDTO(a.id, a.city, a.street, a.house, a.room) "
+            + "from Address a";
+
+    @Query(SELECT_DTO + " where a.id > :after order by a.id")
+    Slice<AddressDTO> findDTOsAfter(@Param("after") Long after, Pageable pageable);
+
+    @Query(SELECT_DTO + " where a.id = :id")
+    Optional<AddressDTO> findDTOById(@Param("id") Long id);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_DTO + " order by a.id")
+    Stream<AddressDTO> streamAllDTOs();
 }
@@ -0,0 +1,5 @@
+package academy.softserve.os.repository;
+
+public interface AddressUpsertRepository {
+    long upsert(String city, String street, String house, String room);
+}
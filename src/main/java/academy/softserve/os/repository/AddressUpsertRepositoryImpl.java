@@ -0,0 +1,24 @@
+package academy.softserve.os.repository;
+
+import academy.softserve.os.repository.support.NativeUpsert;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+public class AddressUpsertRepositoryImpl implements AddressUpsertRepository {
+    private static final NativeUpsert UPSERT = new NativeUpsert(
+            "insert into address (id, city, street, house, room) values (next value for address_seq, ?, ?, ?, ?)",
+            "insert into address (id, city, street, house, room) values (nextval('address_seq'), ?, ?, ?, ?) "
+                    + "on conflict (city, street, house, room) do nothing",
+            "select id from address where city = ? and street = ? and house = ? and room = ?");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public long upsert(String city, String street, String house, String room) {
+        return UPSERT.execute(entityManager, city, street, house, room);
+    }
+}
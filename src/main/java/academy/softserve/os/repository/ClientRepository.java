@@ -1,13 +1,36 @@
 package academy.softserve.os.repository;
 
+import academy.softserve.os.api.dto.ClientDTO;
 import academy.softserve.os.model.Client;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface ClientRepository extends JpaRepository<Client, Long> {
+public interface ClientRepository extends JpaRepository<Client, Long>, ClientUpsertRepository {
 
-    List<Client> findByNameContainingIgnoreCase(String name);
+    String SELECT_DTO = "select new academy.softserve.os.api.dto.ClientDTO(c.id, c.name) from Client c";
+
+    @Query(SELECT_DTO + " where c.id = :id")
+    Optional<ClientDTO> findDTOById(@Param("id") Long id);
+
+    @Query(SELECT_DTO + " where c.id in :ids")
+    List<ClientDTO> findDTOsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select c.id as id, c.name as name from Client c")
+    Stream<NameView> streamNames();
+
+    List<NameView> findAllByNameIn(Collection<String> names);
+
+    interface NameView {
+        Long getId();
+
+        String getName();
+    }
 }
@@ -0,0 +1,5 @@
+package academy.softserve.os.repository;
+
+public interface ClientUpsertRepository {
+    long upsert(String name);
+}
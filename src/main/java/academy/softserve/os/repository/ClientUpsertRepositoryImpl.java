@@ -0,0 +1,23 @@
+package academy.softserve.os.repository;
+
+import academy.softserve.os.repository.support.NativeUpsert;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+public class ClientUpsertRepositoryImpl implements ClientUpsertRepository {
+    private static final NativeUpsert UPSERT = new NativeUpsert(
+            "insert into client (id, name) values (next value for client_seq, ?)",
+            "insert into client (id, name) values (nextval('client_seq'), ?) on conflict (name) do nothing",
+            "select id from client where name = ?");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public long upsert(String name) {
+        return UPSERT.execute(entityManager, name);
+    }
+}
@@ -1,12 +1,66 @@
 package academy.softserve.os.repository;
 
-import academy.softserve.os.model.Address;
-import academy.softserve.os.model.Client;
+import academy.softserve.os.api.dto.EquipmentDTO;
 import academy.softserve.os.model.Equipment;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface EquipmentRepository extends JpaRepository<Equipment, Long> {
-    Optional<Equipment> findByDescriptionAndClientAndAddress(String description, Client client, Address address);
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+public interface EquipmentRepository extends JpaRepository<Equipment, Long>, EquipmentUpsertRepository {
+    String CLIENT_AND_ADDRESS_GRAPH = "Equipment.clientAndAddress";
+    String SELECT_DTO = "select new academy.softserve.os.api.dto.EquipmentDTO(e.id, e.description, c.id, c.name, "
+            + "a.id, a.city, a.street, a.house, a.room) "
+            + "from Equipment e left join e.client c left join e.address a";
+
+    @Override
+    @EntityGraph(CLIENT_AND_ADDRESS_GRAPH)
+    Optional<Equipment> findById(Long id);
+
+    @Query(SELECT_DTO + " where e.id = :id")
+    Optional<EquipmentDTO> findDTOById(@Param("id") Long id);
+
+    @Query(SELECT_DTO + " order by e.id")
+    List<EquipmentDTO> findAllDTOs();
+
+    @Query(SELECT_DTO + " where e.id in :ids")
+    List<EquipmentDTO> findDTOsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query(SELECT_DTO + " where lower(e.description) like lower(:pattern) escape '\\' order by e.id")
+    List<EquipmentDTO> findDTOsByDescriptionLike(@Param("pattern") String pattern);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_DTO + " order by e.id")
+    Stream<EquipmentDTO> streamAllDTOs();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select e.id as id, e.description as description from Equipment e")
+    Stream<DescriptionView> streamDescriptions();
+
+    @Query("select e.description as description, e.client.id as clientId, e.address.id as addressId "
+            + "from Equipment e where e.address.id in :addressIds")
+    List<KeyView> findKeysByAddressIds(@Param("addressIds") Collection<Long> addressIds);
+
+    interface DescriptionView {
+        Long getId();
+
+        String getDescription();
+    }
+
+    interface KeyView {
+        String getDescription();
+
+        Long getClientId();
+
+        Long getAddressId();
+    }
 }
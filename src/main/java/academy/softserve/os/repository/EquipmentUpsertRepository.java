@@ -0,0 +1,5 @@
+package academy.softserve.os.repository;
+
+public interface EquipmentUpsertRepository {
+    long upsert(String description, Long clientId, Long addressId);
+}
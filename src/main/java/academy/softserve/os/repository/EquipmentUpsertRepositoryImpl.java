@@ -0,0 +1,26 @@
+package academy.softserve.os.repository;
+
+import academy.softserve.os.repository.support.NativeUpsert;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+public class EquipmentUpsertRepositoryImpl implements EquipmentUpsertRepository {
+    private static final NativeUpsert UPSERT = new NativeUpsert(
+            "insert into equipment (id, description, client_id, address_id) "
+                    + "values (next value for equipment_seq, ?, ?, ?)",
+            "insert into equipment (id, description, client_id, address_id) "
+                    + "values (nextval('equipment_seq'), ?, ?, ?) "
+                    + "on conflict (description, client_id, address_id) do nothing",
+            "select id from equipment where description = ? and client_id = ? and address_id = ?");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public long upsert(String description, Long clientId, Long addressId) {
+        return UPSERT.execute(entityManager, description, clientId, addressId);
+    }
+}
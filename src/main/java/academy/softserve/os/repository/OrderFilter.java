@@ -0,0 +1,23 @@
+package academy.softserve.os.repository;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional criteria for listing orders; null fields are not applied. Date bounds are inclusive lower and exclusive
+ * upper. The {@code after*} pair is the keyset cursor: the placement date and id of the last order already returned.
+ */
+@Value
+@Builder
+public class OrderFilter {
+    Long clientId;
+    Integer phase;
+    LocalDateTime placedFrom;
+    LocalDateTime placedBefore;
+    LocalDateTime closedFrom;
+    LocalDateTime closedBefore;
+    LocalDateTime afterPlacementDate;
+    Long afterId;
+}
@@ -0,0 +1,8 @@
+package academy.softserve.os.repository;
+
+import academy.softserve.os.api.dto.OrderDTO;
+import org.springframework.data.domain.Slice;
+
+public interface OrderSearchRepository {
+    Slice<OrderDTO> findDTOs(OrderFilter filter, int limit);
+}
@@ -0,0 +1,56 @@
+package academy.softserve.os.repository;
+
+import academy.softserve.os.api.dto.OrderDTO;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.HashMap;
+import java.util.Map;
+
+public class OrderSearchRepositoryImpl implements OrderSearchRepository {
+    private static final String SELECT_DTO = "select new academy.softserve.os.api.dto.OrderDTO("
+            + "o.id, o.client.id, o.placementDate, o.closingDate, o.phase, o.description) from Order o where 1 = 1";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Only the criteria that are set end up in the statement, so each combination gets a plan that can range-scan the
+     * matching (client_id | phase, placement_date, id) index in order and stop after {@code limit + 1} rows.
+     */
+    @Override
+    public Slice<OrderDTO> findDTOs(OrderFilter filter, int limit) {
+        var jpql = new StringBuilder(SELECT_DTO);
+        var parameters = new HashMap<String, Object>();
+        where(jpql, parameters, "o.client.id = :clientId", "clientId", filter.getClientId());
+        where(jpql, parameters, "o.phase = :phase", "phase", filter.getPhase());
+        where(jpql, parameters, "o.placementDate >= :placedFrom", "placedFrom", filter.getPlacedFrom());
+        where(jpql, parameters, "o.placementDate < :placedBefore", "placedBefore", filter.getPlacedBefore());
+        where(jpql, parameters, "o.closingDate >= :closedFrom", "closedFrom", filter.getClosedFrom());
+        where(jpql, parameters, "o.closingDate < :closedBefore", "closedBefore", filter.getClosedBefore());
+        if (filter.getAfterPlacementDate() != null && filter.getAfterId() != null) {
+            jpql.append(" and (o.placementDate > :afterPlacementDate"
+                    + " or (o.placementDate = :afterPlacementDate and o.id > :afterId))");
+            parameters.put("afterPlacementDate", filter.getAfterPlacementDate());
+            parameters.put("afterId", filter.getAfterId());
+        }
+        jpql.append(" order by o.placementDate, o.id");
+
+        var query = entityManager.createQuery(jpql.toString(), OrderDTO.class).setMaxResults(limit + 1);
+        parameters.forEach(query::setParameter);
+        var orders = query.getResultList();
+        var hasNext = orders.size() > limit;
+        return new SliceImpl<>(hasNext ? orders.subList(0, limit) : orders, PageRequest.ofSize(limit), hasNext);
+    }
+
+    private static void where(StringBuilder jpql, Map<String, Object> parameters,
+                              String condition, String name, Object value) {
+        if (value != null) {
+            jpql.append(" and ").append(condition);
+            parameters.put(name, value);
+        }
+    }
+}
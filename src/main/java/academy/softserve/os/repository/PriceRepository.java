@@ -1,11 +1,36 @@
 package academy.softserve.os.repository;
 
+import academy.softserve.os.api.dto.PriceDTO;
 import academy.softserve.os.model.Price;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 public interface PriceRepository extends JpaRepository<Price, Long> {
     List<Price> findAllByJobId(Long id);
 
+    @Query("select new academy.softserve.os.api.dto.PriceDTO(p.id, p.clientPrice, p.workerPrice, p.dateSince) "
+            + "from Price p where p.job.id = :jobId and p.dateSince is not null order by p.dateSince, p.id")
+    List<PriceDTO> findDTOsByJobId(@Param("jobId") Long jobId);
+
+    @Query("select p.job.id as jobId, p.id as id, p.clientPrice as clientPrice, p.workerPrice as workerPrice, "
+            + "p.dateSince as dateSince from Price p where p.job is not null and p.dateSince is not null "
+            + "order by p.job.id, p.dateSince, p.id")
+    List<JobPriceView> findAllJobPriceViews();
+
+    interface JobPriceView {
+        Long getJobId();
+
+        Long getId();
+
+        BigDecimal getClientPrice();
+
+        BigDecimal getWorkerPrice();
+
+        LocalDate getDateSince();
+    }
 }
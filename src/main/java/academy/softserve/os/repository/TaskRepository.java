@@ -2,10 +2,55 @@ package academy.softserve.os.repository;
 
 import academy.softserve.os.model.Task;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
     List<Task> findAllByOrderId(Long id);
+
+    @Query("select t.id as id, t.partFactor as partFactor, t.timeCreate as timeCreate, j.id as jobId, w.id as workerId "
+            + "from Task t left join t.job j left join t.worker w where t.order.id = :orderId")
+    List<CostView> findCostViewsByOrderId(@Param("orderId") Long orderId);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select w.id as workerId, w.firstName as firstName, w.lastName as lastName, j.id as jobId, "
+            + "t.partFactor as partFactor, t.timeCreate as timeCreate "
+            + "from Task t join t.worker w left join t.job j "
+            + "where t.timeCreate >= :from and t.timeCreate < :to order by w.id")
+    Stream<PayrollView> streamPayrollViews(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    interface CostView {
+        Long getId();
+
+        Double getPartFactor();
+
+        LocalDateTime getTimeCreate();
+
+        Long getJobId();
+
+        Long getWorkerId();
+    }
+
+    interface PayrollView {
+        Long getWorkerId();
+
+        String getFirstName();
+
+        String getLastName();
+
+        Long getJobId();
+
+        Double getPartFactor();
+
+        LocalDateTime getTimeCreate();
+    }
 }
@@ -0,0 +1,70 @@
+package academy.softserve.os.repository.support;
+
+import academy.softserve.os.api.dto.ConnectionUsageDTO;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class ConnectionUsageMetrics implements MetricsTrackerFactory {
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+
+    private final LongAdder usageCount = new LongAdder();
+    private final LongAdder totalUsageMillis = new LongAdder();
+    private final LongAccumulator maxUsageMillis = new LongAccumulator(Long::max, 0);
+    private final LongAdder totalAcquireNanos = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+    private volatile PoolStats poolStats;
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        this.poolStats = poolStats;
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                totalAcquireNanos.add(elapsedAcquiredNanos);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                usageCount.increment();
+                totalUsageMillis.add(elapsedBorrowedMillis);
+                maxUsageMillis.accumulate(elapsedBorrowedMillis);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                timeoutCount.increment();
+            }
+        };
+    }
+
+    public ConnectionUsageDTO snapshot() {
+        var count = usageCount.sum();
+        var total = totalUsageMillis.sum();
+        var stats = poolStats;
+        return ConnectionUsageDTO.builder()
+                .usageCount(count)
+                .totalUsageMillis(total)
+                .meanUsageMillis(count == 0 ? 0 : (double) total / count)
+                .maxUsageMillis(maxUsageMillis.get())
+                .meanAcquireMillis(count == 0 ? 0 : (double) totalAcquireNanos.sum() / NANOS_PER_MILLI / count)
+                .timeoutCount(timeoutCount.sum())
+                .activeConnections(stats == null ? 0 : stats.getActiveConnections())
+                .idleConnections(stats == null ? 0 : stats.getIdleConnections())
+                .pendingThreads(stats == null ? 0 : stats.getPendingThreads())
+                .build();
+    }
+
+    public void reset() {
+        usageCount.reset();
+        totalUsageMillis.reset();
+        maxUsageMillis.reset();
+        totalAcquireNanos.reset();
+        timeoutCount.reset();
+    }
+}
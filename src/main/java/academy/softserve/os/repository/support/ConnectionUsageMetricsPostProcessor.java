@@ -0,0 +1,21 @@
+package academy.softserve.os.repository.support;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ConnectionUsageMetricsPostProcessor implements BeanPostProcessor {
+    private final ObjectProvider<ConnectionUsageMetrics> metrics;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource && ((HikariDataSource) bean).getMetricsTrackerFactory() == null) {
+            ((HikariDataSource) bean).setMetricsTrackerFactory(metrics.getObject());
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,255 @@
+package academy.softserve.os.repository.support;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import static java.util.stream.Collectors.toList;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IndexCoverageCheck {
+    private static final Pattern ROOT_ENTITY = Pattern.compile("\\bfrom\\s+(\\w+)\\s+(?:as\\s+)?(\\w+)",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern WHERE_CLAUSE = Pattern.compile(
+            "\\bwhere\\b(.*?)(?:\\border\\s+by\\b|\\bgroup\\s+by\\b|$)", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern SIMPLE_PATH_PREDICATE = Pattern.compile(
+            "(?<![\\w.])(\\w+)\\.(\\w+)(?:\\.(\\w+))?\\s*(?:<>|!=|>=|<=|=|>|<|\\bin\\b|\\bbetween\\b|\\blike\\b)",
+            Pattern.CASE_INSENSITIVE);
+
+    private final ListableBeanFactory beanFactory;
+    private final EntityManagerFactory entityManagerFactory;
+    private final DataSource dataSource;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void logUnindexedQueryMethods() {
+        var coverage = inspect();
+        coverage.getUnindexed().forEach(finding -> log.warn("Query method without a supporting index: {}", finding));
+        if (!coverage.getUnchecked().isEmpty()) {
+            log.info("Query methods not checked for index coverage: {}", coverage.getUnchecked());
+        }
+    }
+
+    public List<String> findUnindexedQueryMethods() {
+        return inspect().getUnindexed();
+    }
+
+    /**
+     * Native queries, JPQL whose root entity cannot be found and custom repository implementations are not analysed;
+     * they are reported here so the gap stays visible.
+     */
+    public List<String> findUncheckedQueryMethods() {
+        return inspect().getUnchecked();
+    }
+
+    private Coverage inspect() {
+        var repositories = new Repositories(beanFactory);
+        var metamodel = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getMetamodel();
+        var findings = new ArrayList<String>();
+        var unchecked = new ArrayList<String>();
+        try (var connection = dataSource.getConnection()) {
+            var metaData = connection.getMetaData();
+            var schema = connection.getSchema();
+            var indexesByTable = new HashMap<String, List<List<String>>>();
+            for (var domainType : repositories) {
+                var information = repositories.getRequiredRepositoryInformation(domainType);
+                var persister = (AbstractEntityPersister) metamodel.entityPersister(domainType);
+                var indexes = indexesByTable.computeIfAbsent(persister.getTableName(),
+                        table -> readIndexes(metaData, schema, table));
+                var repositoryName = information.getRepositoryInterface().getSimpleName();
+                for (var method : information.getQueryMethods()) {
+                    var predicates = predicateColumns(method, domainType, persister);
+                    if (predicates == null) {
+                        unchecked.add(repositoryName + "." + method.getName());
+                        continue;
+                    }
+                    predicates.stream()
+                            .filter(columns -> !isCovered(columns, indexes))
+                            .map(columns -> String.format("%s.%s on %s%s", repositoryName,
+                                    method.getName(), persister.getTableName(), columns))
+                            .forEach(findings::add);
+                }
+                Arrays.stream(information.getRepositoryInterface().getMethods())
+                        .filter(information::isCustomMethod)
+                        .map(method -> repositoryName + "." + method.getName())
+                        .distinct()
+                        .forEach(unchecked::add);
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Could not read index metadata", e);
+        }
+        return new Coverage(findings, unchecked);
+    }
+
+    /**
+     * Column sets of the method's top-level or-branches, or null if the method's predicates cannot be analysed.
+     */
+    private static List<Set<String>> predicateColumns(Method method, Class<?> domainType, AbstractEntityPersister persister) {
+        var query = AnnotatedElementUtils.findMergedAnnotation(method, Query.class);
+        List<List<String>> properties;
+        if (query != null) {
+            properties = query.nativeQuery() ? null : jpqlPredicateProperties(query.value(), domainType.getSimpleName());
+        } else {
+            properties = derivedPredicateProperties(method, domainType);
+        }
+        if (properties == null) {
+            return null;
+        }
+        var predicates = new ArrayList<Set<String>>();
+        for (var branch : properties) {
+            var columns = new HashSet<String>();
+            for (var property : branch) {
+                try {
+                    var names = property.equals(persister.getIdentifierPropertyName())
+                            ? persister.getIdentifierColumnNames()
+                            : persister.getPropertyColumnNames(property);
+                    Arrays.stream(names).map(column -> column.toLowerCase(Locale.ROOT)).forEach(columns::add);
+                } catch (HibernateException e) {
+                    // not a column of the entity's own table, e.g. a component or collection path
+                }
+            }
+            if (!columns.isEmpty()) {
+                predicates.add(columns);
+            }
+        }
+        return predicates;
+    }
+
+    private static List<List<String>> derivedPredicateProperties(Method method, Class<?> domainType) {
+        PartTree tree;
+        try {
+            tree = new PartTree(method.getName(), domainType);
+        } catch (PropertyReferenceException | IllegalArgumentException e) {
+            return null;
+        }
+        var properties = new ArrayList<List<String>>();
+        tree.forEach(orPart -> properties.add(orPart.stream()
+                .map(Part::getProperty)
+                .map(PropertyPath::getSegment)
+                .collect(toList())));
+        return properties;
+    }
+
+    /**
+     * Properties of the root entity compared in each top-level or-branch of a JPQL where clause. Only simple paths
+     * such as {@code o.phase} or {@code t.order.id} count; function calls, joined aliases and null checks are ignored
+     * since they cannot use a plain index on the root table anyway. Returns null if the root entity is not found.
+     */
+    static List<List<String>> jpqlPredicateProperties(String jpql, String entityName) {
+        String alias = null;
+        var root = ROOT_ENTITY.matcher(jpql);
+        while (alias == null && root.find()) {
+            if (root.group(1).equals(entityName)) {
+                alias = root.group(2);
+            }
+        }
+        if (alias == null) {
+            return null;
+        }
+        var where = WHERE_CLAUSE.matcher(jpql);
+        if (!where.find()) {
+            return List.of();
+        }
+        var properties = new ArrayList<List<String>>();
+        for (var branch : topLevelDisjuncts(where.group(1))) {
+            var branchProperties = new ArrayList<String>();
+            var predicate = SIMPLE_PATH_PREDICATE.matcher(branch);
+            while (predicate.find()) {
+                var nested = predicate.group(3);
+                if (predicate.group(1).equals(alias) && (nested == null || nested.equals("id"))) {
+                    branchProperties.add(predicate.group(2));
+                }
+            }
+            properties.add(branchProperties);
+        }
+        return properties;
+    }
+
+    private static List<String> topLevelDisjuncts(String condition) {
+        var lower = condition.toLowerCase(Locale.ROOT);
+        var disjuncts = new ArrayList<String>();
+        var depth = 0;
+        var start = 0;
+        for (var i = 0; i < condition.length(); i++) {
+            var c = condition.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (depth == 0 && lower.startsWith("or", i) && isSeparator(condition, i - 1)
+                    && isSeparator(condition, i + 2)) {
+                disjuncts.add(condition.substring(start, i));
+                start = i + 2;
+            }
+        }
+        disjuncts.add(condition.substring(start));
+        return disjuncts;
+    }
+
+    private static boolean isSeparator(String text, int index) {
+        return index < 0 || index >= text.length() || Character.isWhitespace(text.charAt(index))
+                || text.charAt(index) == '(' || text.charAt(index) == ')';
+    }
+
+    @Value
+    private static class Coverage {
+        List<String> unindexed;
+        List<String> unchecked;
+    }
+
+    private static boolean isCovered(Set<String> columns, List<List<String>> indexes) {
+        return indexes.stream().anyMatch(index -> columns.contains(index.get(0)));
+    }
+
+    private static List<List<String>> readIndexes(DatabaseMetaData metaData, String schema, String table) {
+        var columnsByIndex = new HashMap<String, Map<Short, String>>();
+        try (var resultSet = metaData.getIndexInfo(null, schema,
+                metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table, false, true)) {
+            while (resultSet.next()) {
+                var indexName = resultSet.getString("INDEX_NAME");
+                var column = resultSet.getString("COLUMN_NAME");
+                if (indexName != null && column != null) {
+                    columnsByIndex.computeIfAbsent(indexName, name -> new TreeMap<>())
+                            .put(resultSet.getShort("ORDINAL_POSITION"), column.toLowerCase(Locale.ROOT));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Could not read indexes of " + table, e);
+        }
+        return columnsByIndex.values().stream()
+                .map(columns -> List.copyOf(columns.values()))
+                .collect(toList());
+    }
+}
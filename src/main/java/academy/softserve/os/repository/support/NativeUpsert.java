@@ -0,0 +1,99 @@
+package academy.softserve.os.repository.support;
+
+import org.hibernate.Session;
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.dao.ConcurrencyFailureException;
+
+import javax.persistence.EntityManager;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Inserts a row unless one with the same unique key exists and returns the id of whichever row holds the key.
+ * PostgreSQL resolves the race with ON CONFLICT DO NOTHING. H2 has no race-free equivalent, so a key that is not
+ * found yet is inserted under a savepoint and a unique violation from a concurrent insert only rolls that statement
+ * back.
+ * <p>
+ * The key's row can still be invisible afterwards: the conflicting insert may have been rolled back after blocking
+ * ours, or it committed outside a snapshot that cannot see it. The insert is then retried a few times before giving
+ * up with a {@link ConcurrencyFailureException}.
+ */
+public class NativeUpsert {
+    private static final String UNIQUE_VIOLATION = "23505";
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final String h2Insert;
+    private final String postgresqlInsert;
+    private final String selectId;
+
+    public NativeUpsert(String h2Insert, String postgresqlInsert, String selectId) {
+        this.h2Insert = h2Insert;
+        this.postgresqlInsert = postgresqlInsert;
+        this.selectId = selectId;
+    }
+
+    public long execute(EntityManager entityManager, Object... parameters) {
+        entityManager.flush();
+        var session = entityManager.unwrap(Session.class);
+        var postgresql = session.getSessionFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQL81Dialect;
+        return session.doReturningWork(connection -> {
+            for (var attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+                var id = postgresql ? upsertPostgresql(connection, parameters) : upsertH2(connection, parameters);
+                if (id != null) {
+                    return id;
+                }
+            }
+            throw new ConcurrencyFailureException("Upserted row is not visible to this transaction: " + selectId);
+        });
+    }
+
+    private Long upsertPostgresql(Connection connection, Object... parameters) throws SQLException {
+        executeUpdate(connection, postgresqlInsert, parameters);
+        return selectId(connection, parameters);
+    }
+
+    private Long upsertH2(Connection connection, Object... parameters) throws SQLException {
+        var id = selectId(connection, parameters);
+        if (id != null) {
+            return id;
+        }
+        insertUnderSavepoint(connection, parameters);
+        return selectId(connection, parameters);
+    }
+
+    private Long selectId(Connection connection, Object... parameters) throws SQLException {
+        try (var statement = prepare(connection, selectId, parameters); var resultSet = statement.executeQuery()) {
+            return resultSet.next() ? resultSet.getLong(1) : null;
+        }
+    }
+
+    private void insertUnderSavepoint(Connection connection, Object... parameters) throws SQLException {
+        var savepoint = connection.setSavepoint();
+        try {
+            executeUpdate(connection, h2Insert, parameters);
+            connection.releaseSavepoint(savepoint);
+        } catch (SQLException e) {
+            if (!UNIQUE_VIOLATION.equals(e.getSQLState())) {
+                throw e;
+            }
+            connection.rollback(savepoint);
+        }
+    }
+
+    private static void executeUpdate(Connection connection, String sql, Object... parameters) throws SQLException {
+        try (var statement = prepare(connection, sql, parameters)) {
+            statement.executeUpdate();
+        }
+    }
+
+    private static PreparedStatement prepare(Connection connection, String sql, Object... parameters) throws SQLException {
+        var statement = connection.prepareStatement(sql);
+        for (var i = 0; i < parameters.length; i++) {
+            statement.setObject(i + 1, parameters[i]);
+        }
+        return statement;
+    }
+}
@@ -1,43 +1,51 @@
 package academy.softserve.os.service;
 
+import academy.softserve.os.api.dto.AddressDTO;
 import academy.softserve.os.exception.CreateAddressException;
 import academy.softserve.os.model.Address;
 import academy.softserve.os.repository.AddressRepository;
+import academy.softserve.os.service.address.AddressKey;
+import academy.softserve.os.service.address.AddressKeyCache;
 import academy.softserve.os.service.command.CreateAddressCommand;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.UnaryOperator;
 
 @Service
 @RequiredArgsConstructor
 public class AddressService {
     private final AddressRepository addressRepository;
+    private final AddressKeyCache addressKeyCache;
 
-    @Transactional
     public Address createAddress(CreateAddressCommand command) {
 
         checkToValidAddress(command);
 
-        UnaryOperator<String> removingExtraSpaces = s -> s.toUpperCase().replaceAll("\\s+", " ").trim();
-        var address = Address.builder()
-                .city(removingExtraSpaces.apply(command.getCity()))
-                .street(removingExtraSpaces.apply(command.getStreet()))
-                .house(removingExtraSpaces.apply(command.getHouse()))
-                .room(removingExtraSpaces.apply(command.getRoom()))
-                .build();
+        var key = AddressKey.of(command.getCity(), command.getStreet(), command.getHouse(), command.getRoom());
+        return addressKeyCache.find(key)
+                .map(id -> toAddress(id, key))
+                .orElseGet(() -> upsert(key));
+    }
 
+    private Address upsert(AddressKey key) {
+        var id = addressRepository.upsert(key.getCity(), key.getStreet(), key.getHouse(), key.getRoom());
+        addressKeyCache.putAfterCommit(key, id);
+        return toAddress(id, key);
+    }
 
-        return addressRepository.findByCityAndStreetAndHouseAndRoom(
-                address.getCity(),
-                address.getStreet(),
-                address.getHouse(),
-                address.getRoom()
-        ).orElseGet(() -> addressRepository.save(address));
+    private static Address toAddress(Long id, AddressKey key) {
+        return Address.builder()
+                .id(id)
+                .city(key.getCity())
+                .street(key.getStreet())
+                .house(key.getHouse())
+                .room(key.getRoom())
+                .build();
     }
 
     private void checkToValidAddress(CreateAddressCommand command) {
@@ -48,11 +56,13 @@ public class AddressService {
         }
     }
 
-    public List<Address> findAddresses() {
-        return addressRepository.findAll();
+    @Transactional(readOnly = true)
+    public Slice<AddressDTO> findAddresses(Long after, int limit) {
+        return addressRepository.findDTOsAfter(after == null ? 0L : after, PageRequest.ofSize(limit));
     }
 
-    public Optional<Address> getAddressById(Long id) {
-        return addressRepository.findById(id);
+    @Transactional(readOnly = true)
+    public Optional<AddressDTO> getAddressById(Long id) {
+        return addressRepository.findDTOById(id);
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package academy.softserve.os.service;
 
+import academy.softserve.os.api.dto.ClientDTO;
 import academy.softserve.os.model.Client;
 import academy.softserve.os.service.command.CreateClientCommand;
 
@@ -10,7 +11,7 @@ public interface ClientService {
 
     Client createClient(CreateClientCommand command);
 
-   Optional<Client> findClientById(Long id);
+    Optional<ClientDTO> findClientById(Long id);
 
-    List<Client> findAllClientsByName(String name);
+    List<ClientDTO> findAllClientsByName(String name, int limit);
 }
@@ -1,30 +1,36 @@
 package academy.softserve.os.service;
 
+import academy.softserve.os.api.dto.EquipmentDTO;
 import academy.softserve.os.model.Equipment;
 import academy.softserve.os.repository.AddressRepository;
 import academy.softserve.os.repository.ClientRepository;
 import academy.softserve.os.repository.EquipmentRepository;
 import academy.softserve.os.service.command.CreateEquipmentCommand;
 import academy.softserve.os.exception.CreateEquipmentException;
+import academy.softserve.os.service.search.EquipmentDescriptionIndex;
 
 import lombok.RequiredArgsConstructor;
 
-import org.springframework.data.domain.Example;
-import org.springframework.data.domain.ExampleMatcher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.UnaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class EquipmentService {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
     private final EquipmentRepository equipmentRepository;
     private final ClientRepository clientRepository;
     private final AddressRepository addressRepository;
+    private final EquipmentDescriptionIndex descriptionIndex;
 
     @Transactional
     public Equipment createEquipment(CreateEquipmentCommand command) {
@@ -35,18 +41,20 @@ public class EquipmentService {
         var address = addressRepository.findById(command.getAddressId())
                 .orElseThrow(() -> new CreateEquipmentException("Address ID not found."));
 
-        UnaryOperator<String> removingExtraSpaces = s -> s.replaceAll("\\s+", " ").trim();
         var equipment = Equipment.builder()
-                .description(removingExtraSpaces.apply(command.getDescription()))
+                .description(normalizeDescription(command.getDescription()))
                 .client(client)
                 .address(address)
                 .build();
 
-        return equipmentRepository.findByDescriptionAndClientAndAddress(
-                equipment.getDescription(),
-                equipment.getClient(),
-                equipment.getAddress()
-        ).orElseGet(() -> equipmentRepository.save(equipment));
+        var id = equipmentRepository.upsert(equipment.getDescription(), client.getId(), address.getId());
+        equipment.setId(id);
+        descriptionIndex.indexAfterCommit(equipment);
+        return equipment;
+    }
+
+    public static String normalizeDescription(String description) {
+        return WHITESPACE.matcher(description).replaceAll(" ").trim();
     }
 
     private void checkToValidEquipment(CreateEquipmentCommand command) {
@@ -55,21 +63,36 @@ public class EquipmentService {
         }
     }
 
-    public Optional<Equipment> getEquipmentById(Long id) {
-        return equipmentRepository.findById(id);
+    @Transactional(readOnly = true)
+    public Optional<EquipmentDTO> getEquipmentById(Long id) {
+        return equipmentRepository.findDTOById(id);
     }
 
-    public List<Equipment> findEquipmentByDescription(String description) {
+    @Transactional(readOnly = true)
+    public void exportEquipment(Consumer<EquipmentDTO> consumer) {
+        try (var equipment = equipmentRepository.streamAllDTOs()) {
+            equipment.forEach(consumer);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<EquipmentDTO> findEquipmentByDescription(String description) {
         if (description == null || description.isEmpty()) {
-            return equipmentRepository.findAll();
+            return equipmentRepository.findAllDTOs();
+        }
+        if (descriptionIndex.isSearchable(description)) {
+            var ids = descriptionIndex.search(description);
+            var equipmentById = equipmentRepository.findDTOsByIds(ids).stream()
+                    .collect(Collectors.toMap(EquipmentDTO::getId, Function.identity()));
+            return ids.stream()
+                    .map(equipmentById::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
         }
-        var equipment = new Equipment();
-        equipment.setDescription(description);
-        var caseInsensitiveExampleMatcher = ExampleMatcher.matchingAny()
-                .withIgnoreCase()
-                .withStringMatcher(ExampleMatcher.StringMatcher.CONTAINING);
-        var example = Example.of(equipment, caseInsensitiveExampleMatcher);
-
-        return equipmentRepository.findAll(example);
+        return equipmentRepository.findDTOsByDescriptionLike("%" + escapeLike(description) + "%");
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
     }
-}
\ No newline at end of file
+}
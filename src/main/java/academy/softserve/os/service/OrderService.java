@@ -1,9 +1,20 @@
 package academy.softserve.os.service;
 
+import academy.softserve.os.api.dto.OrderCostDTO;
+import academy.softserve.os.api.dto.OrderDTO;
 import academy.softserve.os.model.Order;
+import academy.softserve.os.repository.OrderFilter;
 import academy.softserve.os.service.command.CreateOrderCommand;
 
+import org.springframework.data.domain.Slice;
+
+import java.util.Optional;
+
 public interface OrderService {
 
    Order createOrder(CreateOrderCommand command);
+
+   Optional<OrderCostDTO> findOrderCost(Long orderId);
+
+   Slice<OrderDTO> findOrders(OrderFilter filter, int limit);
 }
@@ -1,11 +1,15 @@
 package academy.softserve.os.service;
 
+import academy.softserve.os.api.dto.PriceDTO;
 import academy.softserve.os.model.Job;
 import academy.softserve.os.model.Price;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 public interface PriceService {
     Price createPrice(Price price);
     List<Price> getAllPrice(Job job);
+    Optional<PriceDTO> findPriceAt(Long jobId, LocalDate date);
 }
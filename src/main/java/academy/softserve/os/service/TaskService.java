@@ -3,7 +3,11 @@ package academy.softserve.os.service;
 import academy.softserve.os.model.Task;
 import academy.softserve.os.service.command.CreateTaskCommand;
 
+import java.util.List;
+
 public interface TaskService {
 
     Task createTask(CreateTaskCommand command);
+
+    List<Task> createTasks(List<CreateTaskCommand> commands);
 }
@@ -6,4 +6,6 @@ import academy.softserve.os.service.command.CreateUserCommand;
 public interface UserService {
 
     User createUser(CreateUserCommand command);
+
+    boolean existsByLogin(String login);
 }
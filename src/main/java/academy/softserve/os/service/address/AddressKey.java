@@ -0,0 +1,30 @@
+package academy.softserve.os.service.address;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
+public final class AddressKey {
+    private final String city;
+    private final String street;
+    private final String house;
+    private final String room;
+
+    private AddressKey(String city, String street, String house, String room) {
+        this.city = city;
+        this.street = street;
+        this.house = house;
+        this.room = room;
+    }
+
+    public static AddressKey of(String city, String street, String house, String room) {
+        return new AddressKey(
+                AddressNormalizer.normalize(city),
+                AddressNormalizer.normalize(street),
+                AddressNormalizer.normalize(house),
+                room == null ? "" : AddressNormalizer.normalize(room));
+    }
+}
@@ -0,0 +1,58 @@
+package academy.softserve.os.service.address;
+
+import academy.softserve.os.repository.AddressRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class AddressKeyCache {
+    private final AddressRepository addressRepository;
+    private final Map<AddressKey, Long> ids = new ConcurrentHashMap<>();
+
+    public AddressKeyCache(AddressRepository addressRepository) {
+        this.addressRepository = addressRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warm() {
+        ids.clear();
+        try (var addresses = addressRepository.streamAllDTOs()) {
+            addresses.forEach(address -> ids.putIfAbsent(
+                    AddressKey.of(address.getCity(), address.getStreet(), address.getHouse(), address.getRoom()),
+                    address.getId()));
+        }
+    }
+
+    public Optional<Long> find(AddressKey key) {
+        return Optional.ofNullable(ids.get(key));
+    }
+
+    public void putAfterCommit(AddressKey key, Long id) {
+        if (id == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ids.putIfAbsent(key, id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ids.putIfAbsent(key, id);
+            }
+        });
+    }
+
+    public int size() {
+        return ids.size();
+    }
+}
@@ -0,0 +1,80 @@
+package academy.softserve.os.service.address;
+
+import java.util.BitSet;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Upper-cases a value, collapses runs of whitespace into one space and trims it in a single pass.
+ * Equivalent to {@code s.toUpperCase(Locale.ROOT).replaceAll("\\s+", " ").trim()}, but returns the argument
+ * itself when it is already normalized.
+ */
+public final class AddressNormalizer {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final BitSet MULTI_CHAR_UPPER_CASE = multiCharUpperCase();
+
+    private AddressNormalizer() {
+    }
+
+    public static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        var length = value.length();
+        var start = 0;
+        // like String.trim(), strip every control character at the ends, not only whitespace
+        while (start < length && value.charAt(start) <= ' ') {
+            start++;
+        }
+        var end = length;
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        StringBuilder builder = null;
+        var previousWhitespace = false;
+        for (var i = start; i < end; i++) {
+            var c = value.charAt(i);
+            if (MULTI_CHAR_UPPER_CASE.get(c)) {
+                return WHITESPACE.matcher(value.toUpperCase(Locale.ROOT)).replaceAll(" ").trim();
+            }
+            var whitespace = isWhitespace(c);
+            if (whitespace && previousWhitespace) {
+                if (builder == null) {
+                    builder = new StringBuilder(end - start).append(value, start, i);
+                }
+                continue;
+            }
+            previousWhitespace = whitespace;
+            var normalized = whitespace ? ' ' : Character.toUpperCase(c);
+            if (builder == null && normalized != c) {
+                builder = new StringBuilder(end - start).append(value, start, i);
+            }
+            if (builder != null) {
+                builder.append(normalized);
+            }
+        }
+        if (builder != null) {
+            return builder.toString();
+        }
+        return start == 0 && end == length ? value : value.substring(start, end);
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    // characters such as 'ß' or surrogate halves whose upper case is not a single char
+    private static BitSet multiCharUpperCase() {
+        var set = new BitSet(Character.MAX_VALUE + 1);
+        for (var c = Character.MIN_VALUE; ; c++) {
+            var upper = String.valueOf(c).toUpperCase(Locale.ROOT);
+            if (Character.isSurrogate(c) || upper.length() != 1 || upper.charAt(0) != Character.toUpperCase(c)) {
+                set.set(c);
+            }
+            if (c == Character.MAX_VALUE) {
+                return set;
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package academy.softserve.os.service.cache;
+
+import academy.softserve.os.model.UserDetailsImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Component
+public class PrincipalCache {
+    private final ExpiringLruCache<String, UserDetails> cache;
+
+    public PrincipalCache(@Value("${app.principalCacheMaxSize}") int maxSize,
+                          @Value("${app.principalCacheTtlMs}") long ttlMs) {
+        this.cache = new ExpiringLruCache<>(maxSize, ttlMs);
+    }
+
+    public UserDetails get(String login, Function<String, UserDetails> loader) {
+        return cache.get(login, key -> snapshot(loader.apply(key)));
+    }
+
+    public void invalidate(String login) {
+        cache.invalidate(login);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    private static UserDetails snapshot(UserDetails userDetails) {
+        if (!(userDetails instanceof UserDetailsImpl)) {
+            return userDetails;
+        }
+        var details = (UserDetailsImpl) userDetails;
+        // the password hash is only needed to authenticate a login, never to authorize a request
+        return new UserDetailsImpl(
+                details.getId(),
+                details.getWorkerId(),
+                details.getUsername(),
+                null,
+                List.copyOf(details.getAuthorities()));
+    }
+}
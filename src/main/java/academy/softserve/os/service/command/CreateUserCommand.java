@@ -16,5 +16,5 @@ import java.util.Set;
 public class CreateUserCommand {
     private String login;
     private Set<String> roles;
-    private String password;
+    private String passwordHash;
 }
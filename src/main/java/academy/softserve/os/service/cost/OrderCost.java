@@ -0,0 +1,65 @@
+package academy.softserve.os.service.cost;
+
+import academy.softserve.os.api.dto.OrderCostDTO;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Running totals of one order, updated in place. Not thread-safe: once cached it is only read or changed under the
+ * ledger's lock. Task ids come from a sequence, so instead of remembering every counted task it keeps the highest
+ * counted id, and a task at or below that mark is refused.
+ */
+final class OrderCost {
+    private static final int SCALE = 2;
+
+    private final Map<Long, BigDecimal> workerTotals = new HashMap<>();
+    private BigDecimal clientTotal = BigDecimal.ZERO;
+    private BigDecimal workerTotal = BigDecimal.ZERO;
+    private int taskCount;
+    private int unpricedTaskCount;
+    private long maxTaskId = Long.MIN_VALUE;
+
+    /**
+     * Counts a task unless its id is at or below the highest id already counted.
+     *
+     * @return false if the task was refused, in which case it may or may not be part of the totals
+     */
+    boolean add(TaskCost task) {
+        if (task.getTaskId() == null || task.getTaskId() <= maxTaskId) {
+            return false;
+        }
+        maxTaskId = task.getTaskId();
+        taskCount++;
+        if (!task.isPriced()) {
+            unpricedTaskCount++;
+            return true;
+        }
+        clientTotal = clientTotal.add(task.getClientAmount());
+        workerTotal = workerTotal.add(task.getWorkerAmount());
+        if (task.getWorkerId() != null) {
+            workerTotals.merge(task.getWorkerId(), task.getWorkerAmount(), BigDecimal::add);
+        }
+        return true;
+    }
+
+    OrderCostDTO toDTO(Long orderId) {
+        var roundedWorkerTotals = new TreeMap<Long, BigDecimal>();
+        workerTotals.forEach((workerId, total) -> roundedWorkerTotals.put(workerId, round(total)));
+        return OrderCostDTO.builder()
+                .orderId(orderId)
+                .clientTotal(round(clientTotal))
+                .workerTotal(round(workerTotal))
+                .workerTotals(roundedWorkerTotals)
+                .taskCount(taskCount)
+                .unpricedTaskCount(unpricedTaskCount)
+                .build();
+    }
+
+    private static BigDecimal round(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,149 @@
+package academy.softserve.os.service.cost;
+
+import academy.softserve.os.api.dto.OrderCostDTO;
+import academy.softserve.os.model.Task;
+import academy.softserve.os.repository.TaskRepository;
+import academy.softserve.os.service.cache.ExpiringLruCache;
+import academy.softserve.os.service.price.PriceBook;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Client and worker totals per order. An order is summed from its tasks once, on first request; after that every
+ * committed task is added to the cached totals instead of recomputing the order. Cached totals are mutable and are only
+ * touched while holding this ledger's lock.
+ */
+@Component
+public class OrderCostLedger {
+    private static final Comparator<TaskCost> BY_TASK_ID =
+            Comparator.comparing(TaskCost::getTaskId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final TaskRepository taskRepository;
+    private final PriceBook priceBook;
+    private final ExpiringLruCache<Long, OrderCost> costs;
+    private long writes;
+
+    public OrderCostLedger(TaskRepository taskRepository,
+                           PriceBook priceBook,
+                           @Value("${app.orderCostCacheSize}") int cacheSize,
+                           @Value("${app.orderCostCacheTtlMs}") long cacheTtlMs) {
+        this.taskRepository = taskRepository;
+        this.priceBook = priceBook;
+        this.costs = new ExpiringLruCache<>(cacheSize, cacheTtlMs);
+    }
+
+    public synchronized Optional<OrderCostDTO> findCached(Long orderId) {
+        return Optional.ofNullable(costs.getIfPresent(orderId)).map(cost -> cost.toDTO(orderId));
+    }
+
+    @Transactional(readOnly = true)
+    public OrderCostDTO load(Long orderId) {
+        long stamp;
+        synchronized (this) {
+            stamp = writes;
+        }
+        var taskCosts = new ArrayList<TaskCost>();
+        for (var task : taskRepository.findCostViewsByOrderId(orderId)) {
+            taskCosts.add(price(task.getId(), orderId, task.getWorkerId(), task.getJobId(),
+                    task.getPartFactor(), task.getTimeCreate()));
+        }
+        taskCosts.sort(BY_TASK_ID);
+        var cost = new OrderCost();
+        taskCosts.forEach(cost::add);
+        var dto = cost.toDTO(orderId);
+        synchronized (this) {
+            // a task committed while we were reading may be missing from the sum, so only cache an undisturbed load
+            if (writes == stamp) {
+                costs.put(orderId, cost);
+            }
+        }
+        return dto;
+    }
+
+    /**
+     * Adds committed tasks to the cached totals of their orders. Tasks are priced inside the current transaction, and
+     * only for orders that are cached: any other order is summed from the database when first requested.
+     */
+    public void recordAfterCommit(List<Task> tasks) {
+        var taskCosts = new ArrayList<TaskCost>();
+        var uncachedOrderIds = new HashSet<Long>();
+        for (var task : tasks) {
+            var orderId = task.getOrder().getId();
+            if (costs.getIfPresent(orderId) == null) {
+                uncachedOrderIds.add(orderId);
+                continue;
+            }
+            taskCosts.add(price(task.getId(), orderId,
+                    task.getWorker() == null ? null : task.getWorker().getId(),
+                    task.getJob() == null ? null : task.getJob().getId(), task.getPartFactor(), task.getTimeCreate()));
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(taskCosts, uncachedOrderIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(taskCosts, uncachedOrderIds);
+            }
+        });
+    }
+
+    public void invalidateAllAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidateAll();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidateAll();
+            }
+        });
+    }
+
+    private synchronized void apply(List<TaskCost> taskCosts, Set<Long> uncachedOrderIds) {
+        writes++;
+        // an order cached after the tasks were recorded may or may not include them, so it is summed again
+        uncachedOrderIds.forEach(costs::invalidate);
+        taskCosts.sort(BY_TASK_ID);
+        for (var taskCost : taskCosts) {
+            var cost = costs.getIfPresent(taskCost.getOrderId());
+            // a refused task was either already loaded or committed after a task with a higher id; the totals can't
+            // tell which, so the order is summed again
+            if (cost != null && !cost.add(taskCost)) {
+                costs.invalidate(taskCost.getOrderId());
+            }
+        }
+    }
+
+    private synchronized void invalidateAll() {
+        writes++;
+        costs.invalidateAll();
+    }
+
+    private TaskCost price(Long taskId, Long orderId, Long workerId, Long jobId, Double partFactor,
+                           LocalDateTime timeCreate) {
+        if (jobId == null || timeCreate == null || partFactor == null) {
+            return new TaskCost(taskId, orderId, workerId, null, null);
+        }
+        var factor = BigDecimal.valueOf(partFactor);
+        return priceBook.priceAt(jobId, timeCreate.toLocalDate())
+                .filter(price -> price.getClientPrice() != null && price.getWorkerPrice() != null)
+                .map(price -> new TaskCost(taskId, orderId, workerId,
+                        price.getClientPrice().multiply(factor), price.getWorkerPrice().multiply(factor)))
+                .orElseGet(() -> new TaskCost(taskId, orderId, workerId, null, null));
+    }
+}
@@ -0,0 +1,24 @@
+package academy.softserve.os.service.cost;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * What one task adds to its order: the job's prices effective when the task was created, scaled by its part factor.
+ * Both amounts are null when the job had no price at that time.
+ */
+@Getter
+@AllArgsConstructor
+class TaskCost {
+    private final Long taskId;
+    private final Long orderId;
+    private final Long workerId;
+    private final BigDecimal clientAmount;
+    private final BigDecimal workerAmount;
+
+    boolean isPriced() {
+        return clientAmount != null;
+    }
+}
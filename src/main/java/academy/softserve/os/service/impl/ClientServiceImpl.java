@@ -1,21 +1,27 @@
 package academy.softserve.os.service.impl;
 
+import academy.softserve.os.api.dto.ClientDTO;
 import academy.softserve.os.model.Client;
 import academy.softserve.os.repository.ClientRepository;
 import academy.softserve.os.service.ClientService;
 import academy.softserve.os.service.command.CreateClientCommand;
+import academy.softserve.os.service.search.ClientNameIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
 public class ClientServiceImpl implements ClientService {
 
     private final ClientRepository clientRepository;
+    private final ClientNameIndex clientNameIndex;
 
 
     @Override
@@ -25,16 +31,26 @@ public class ClientServiceImpl implements ClientService {
                 .name(command.getName())
                 .build();
 
-        return clientRepository.save(client);
+        var saved = clientRepository.save(client);
+        clientNameIndex.indexAfterCommit(saved);
+        return saved;
     }
 
     @Override
-    public Optional<Client> findClientById(Long id) {
-        return clientRepository.findById(id);
+    @Transactional(readOnly = true)
+    public Optional<ClientDTO> findClientById(Long id) {
+        return clientRepository.findDTOById(id);
     }
 
     @Override
-    public List<Client> findAllClientsByName(String name) {
-        return clientRepository.findByNameContainingIgnoreCase(name);
+    @Transactional(readOnly = true)
+    public List<ClientDTO> findAllClientsByName(String name, int limit) {
+        var ids = clientNameIndex.search(name, limit);
+        var clientsById = clientRepository.findDTOsByIds(ids).stream()
+                .collect(Collectors.toMap(ClientDTO::getId, Function.identity()));
+        return ids.stream()
+                .map(clientsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 }
@@ -3,37 +3,53 @@ package academy.softserve.os.service.impl;
 import academy.softserve.os.model.Job;
 import academy.softserve.os.model.Price;
 import academy.softserve.os.repository.JobRepository;
-import academy.softserve.os.repository.PriceRepository;
 import academy.softserve.os.service.JobService;
 import academy.softserve.os.service.command.CreateJobCommand;
+import academy.softserve.os.service.price.PriceBook;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class JobServiceImpl implements JobService {
     private final JobRepository jobRepository;
-    private final PriceRepository priceRepository;
+    private final PriceBook priceBook;
 
     @Override
+    @Transactional
     public Job createJob(CreateJobCommand command) {
-        var job = jobRepository.save(Job.builder()
-                .description(command.getDescription()).build());
+        var job = jobRepository.save(toJob(command, LocalDate.now()));
+        priceBook.invalidateAfterCommit(job.getId());
+        return job;
+    }
+
+    @Override
+    @Transactional
+    public List<Job> createJobs(List<CreateJobCommand> commands) {
+        var today = LocalDate.now();
+        var jobs = jobRepository.saveAll(commands.stream()
+                .map(command -> toJob(command, today))
+                .collect(Collectors.toList()));
+        jobs.forEach(job -> priceBook.invalidateAfterCommit(job.getId()));
+        return jobs;
+    }
 
-        var price = Price.builder()
+    private static Job toJob(CreateJobCommand command, LocalDate dateSince) {
+        var job = Job.builder()
+                .description(command.getDescription())
+                .prices(new ArrayList<>())
+                .build();
+        job.getPrices().add(Price.builder()
                 .workerPrice(command.getWorkerPrice())
                 .clientPrice(command.getClientPrice())
-                .dateSince(LocalDate.now())
-                .job(job).build();
-
-        priceRepository.save(price);
-
-        var priceList = priceRepository.findAllByJobId(job.getId());
-
-        job.setPrices(priceList);
-
+                .dateSince(dateSince)
+                .job(job).build());
         return job;
     }
 }
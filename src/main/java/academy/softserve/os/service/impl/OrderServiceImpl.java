@@ -1,21 +1,29 @@
 package academy.softserve.os.service.impl;
 
+import academy.softserve.os.api.dto.OrderCostDTO;
+import academy.softserve.os.api.dto.OrderDTO;
 import academy.softserve.os.exception.CreateOrderException;
 import academy.softserve.os.model.Order;
 import academy.softserve.os.repository.ClientRepository;
+import academy.softserve.os.repository.OrderFilter;
 import academy.softserve.os.repository.OrderRepository;
 import academy.softserve.os.service.OrderService;
 import academy.softserve.os.service.command.CreateOrderCommand;
+import academy.softserve.os.service.cost.OrderCostLedger;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 public class OrderServiceImpl implements OrderService {
 
     private final OrderRepository orderRepository;
     private final ClientRepository clientRepository;
+    private final OrderCostLedger orderCostLedger;
 
     @Override
     @Transactional
@@ -31,4 +39,18 @@ public class OrderServiceImpl implements OrderService {
                 .orElseThrow(() -> new CreateOrderException("No such a client"));
         return orderRepository.save(order);
     }
+
+    @Override
+    public Optional<OrderCostDTO> findOrderCost(Long orderId) {
+        return orderCostLedger.findCached(orderId)
+                .or(() -> orderRepository.existsById(orderId)
+                        ? Optional.of(orderCostLedger.load(orderId))
+                        : Optional.empty());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<OrderDTO> findOrders(OrderFilter filter, int limit) {
+        return orderRepository.findDTOs(filter, limit);
+    }
 }
@@ -1,30 +1,45 @@
 package academy.softserve.os.service.impl;
 
+import academy.softserve.os.api.dto.PriceDTO;
 import academy.softserve.os.model.Job;
 import academy.softserve.os.model.Price;
 import academy.softserve.os.repository.PriceRepository;
 import academy.softserve.os.service.PriceService;
+import academy.softserve.os.service.cost.OrderCostLedger;
+import academy.softserve.os.service.price.PriceBook;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 
 @Service
 @RequiredArgsConstructor
 public class PriceServiceImpl implements PriceService {
     private final PriceRepository priceRepository;
+    private final PriceBook priceBook;
+    private final OrderCostLedger orderCostLedger;
 
     @Override
     @Transactional
     public Price createPrice(Price price) {
-        return priceRepository.save(price);
+        var saved = priceRepository.save(price);
+        priceBook.invalidateAfterCommit(saved.getJob().getId());
+        orderCostLedger.invalidateAllAfterCommit();
+        return saved;
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<Price> getAllPrice(Job job) {
         return priceRepository.findAllByJobId(job.getId());
     }
+
+    @Override
+    public Optional<PriceDTO> findPriceAt(Long jobId, LocalDate date) {
+        return priceBook.priceAt(jobId, date);
+    }
 }
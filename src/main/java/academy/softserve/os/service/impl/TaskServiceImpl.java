@@ -1,18 +1,36 @@
 package academy.softserve.os.service.impl;
 
 import academy.softserve.os.exception.CreateTaskException;
+import academy.softserve.os.model.Job;
+import academy.softserve.os.model.Order;
 import academy.softserve.os.model.Task;
+import academy.softserve.os.model.Worker;
 import academy.softserve.os.repository.JobRepository;
 import academy.softserve.os.repository.OrderRepository;
 import academy.softserve.os.repository.TaskRepository;
 import academy.softserve.os.repository.WorkerRepository;
 import academy.softserve.os.service.TaskService;
 import academy.softserve.os.service.command.CreateTaskCommand;
+import academy.softserve.os.service.cost.OrderCostLedger;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 
 @Service
 @RequiredArgsConstructor
@@ -22,54 +40,110 @@ public class TaskServiceImpl implements TaskService {
     private final OrderRepository orderRepository;
     private final WorkerRepository workerRepository;
     private final JobRepository jobRepository;
+    private final OrderCostLedger orderCostLedger;
 
     @Override
     @Transactional
     public Task createTask(CreateTaskCommand command) {
-        throwIfPartFactorTooBig(command.getPartFactor(), command.getOrderId());
-        throwIfAnyDontExist(command.getOrderId(), command.getWorkerId(), command.getJobId());
-
-        var worker = workerRepository.findById(command.getWorkerId()).get();
-        var order = orderRepository.findById(command.getOrderId()).get();
-        var job = jobRepository.findById(command.getJobId()).get();
-        var creatorWorker = workerRepository
-                .findById(command.getCreateWorkerId())
-                .get();
+        var order = orderRepository.findByIdForUpdate(command.getOrderId())
+                .orElseThrow(() -> new CreateTaskException(
+                        String.format("Order with id = %d doesn't exist", command.getOrderId())));
+        throwIfPartFactorTooBig(command.getPartFactor(), order);
 
+        order.setAllocatedPartFactor(order.getAllocatedPartFactor() + command.getPartFactor());
         var task = Task.builder()
                 .comment(command.getComment())
-                .creator(creatorWorker)
-                .job(job)
+                .creator(command.getCreateWorkerId() == null
+                        ? null
+                        : workerRepository.getReferenceById(command.getCreateWorkerId()))
+                .job(jobRepository.getReferenceById(command.getJobId()))
                 .order(order)
-                .worker(worker)
+                .worker(workerRepository.getReferenceById(command.getWorkerId()))
                 .partFactor(command.getPartFactor())
                 .timeCreate(LocalDateTime.now())
                 .build();
-        return taskRepository.save(task);
+        try {
+            var saved = taskRepository.saveAndFlush(task);
+            orderCostLedger.recordAfterCommit(List.of(saved));
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            throw toCreateTaskException(e, command);
+        }
+    }
+
+    @Override
+    @Transactional
+    public List<Task> createTasks(List<CreateTaskCommand> commands) {
+        var partFactorByOrderId = new TreeMap<Long, Double>();
+        commands.forEach(command -> partFactorByOrderId.merge(command.getOrderId(), command.getPartFactor(), Double::sum));
+
+        var orders = findAllOrThrow(orderRepository.findAllByIdForUpdate(partFactorByOrderId.keySet()),
+                Order::getId, partFactorByOrderId.keySet(), "Order");
+        partFactorByOrderId.forEach((orderId, partFactor) -> {
+            var order = orders.get(orderId);
+            throwIfPartFactorTooBig(partFactor, order);
+            order.setAllocatedPartFactor(order.getAllocatedPartFactor() + partFactor);
+        });
+
+        var workerIds = commands.stream()
+                .flatMap(command -> Stream.of(command.getWorkerId(), command.getCreateWorkerId()))
+                .filter(Objects::nonNull)
+                .collect(toSet());
+        var workers = findAllOrThrow(workerRepository.findAllById(workerIds), Worker::getId, workerIds, "Worker");
+        var jobIds = commands.stream()
+                .map(CreateTaskCommand::getJobId)
+                .collect(toSet());
+        var jobs = findAllOrThrow(jobRepository.findAllById(jobIds), Job::getId, jobIds, "Job");
+
+        var timeCreate = LocalDateTime.now();
+        var tasks = commands.stream()
+                .map(command -> Task.builder()
+                        .comment(command.getComment())
+                        .creator(command.getCreateWorkerId() == null ? null : workers.get(command.getCreateWorkerId()))
+                        .job(jobs.get(command.getJobId()))
+                        .order(orders.get(command.getOrderId()))
+                        .worker(workers.get(command.getWorkerId()))
+                        .partFactor(command.getPartFactor())
+                        .timeCreate(timeCreate)
+                        .build())
+                .collect(toList());
+        var saved = taskRepository.saveAll(tasks);
+        orderCostLedger.recordAfterCommit(saved);
+        return saved;
     }
 
-    private void throwIfPartFactorTooBig(Double partFactor, Long orderId) {
-        var tasksWithinSameOrder = taskRepository
-                .findAllByOrderId(orderId);
-        var sumPartFactor = tasksWithinSameOrder
-                .stream()
-                .mapToDouble(Task::getPartFactor)
-                .sum();
+    private <T> Map<Long, T> findAllOrThrow(Collection<T> found, Function<T, Long> idGetter, Set<Long> ids, String entityName) {
+        var byId = found.stream().collect(toMap(idGetter, Function.identity()));
+        ids.stream()
+                .filter(id -> !byId.containsKey(id))
+                .findFirst()
+                .ifPresent(id -> {
+                    throw new CreateTaskException(String.format("%s with id = %d doesn't exist", entityName, id));
+                });
+        return byId;
+    }
 
-        if (partFactor + sumPartFactor > 1) {
+    private void throwIfPartFactorTooBig(Double partFactor, Order order) {
+        if (partFactor + order.getAllocatedPartFactor() > 1) {
             throw new CreateTaskException("Part factor is too big");
         }
     }
 
-    private void throwIfAnyDontExist(Long orderId, Long workerId, Long jobId) {
-        if (!orderRepository.existsById(orderId)) {
-            throw new CreateTaskException(String.format("Order with id = %d doesn't exist", orderId));
+    private RuntimeException toCreateTaskException(DataIntegrityViolationException e, CreateTaskCommand command) {
+        if (!(e.getCause() instanceof ConstraintViolationException)) {
+            return e;
+        }
+        var constraintName = String.valueOf(((ConstraintViolationException) e.getCause()).getConstraintName())
+                .toLowerCase();
+        if (constraintName.contains("task_creator_worker")) {
+            return new CreateTaskException(String.format("Worker with id = %d doesn't exist", command.getCreateWorkerId()));
         }
-        if (!workerRepository.existsById(workerId)) {
-            throw new CreateTaskException(String.format("Worker with id = %d doesn't exist", workerId));
+        if (constraintName.contains("task_worker")) {
+            return new CreateTaskException(String.format("Worker with id = %d doesn't exist", command.getWorkerId()));
         }
-        if (!jobRepository.existsById(jobId)) {
-            throw new CreateTaskException(String.format("Job with id = %d doesn't exist", jobId));
+        if (constraintName.contains("task_job")) {
+            return new CreateTaskException(String.format("Job with id = %d doesn't exist", command.getJobId()));
         }
+        return e;
     }
 }
@@ -7,37 +7,48 @@ import academy.softserve.os.model.User;
 import academy.softserve.os.model.UserDetailsImpl;
 import academy.softserve.os.repository.UserRepository;
 import academy.softserve.os.service.UserService;
+import academy.softserve.os.service.cache.PrincipalCache;
 import academy.softserve.os.service.command.CreateUserCommand;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.stream.Collectors;
 
 @Service
-public class UserServiceImpl implements UserDetailsService, UserService {
+public class UserServiceImpl implements UserDetailsService, UserDetailsPasswordService, UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
 
     @Autowired
-    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserServiceImpl(UserRepository userRepository, PrincipalCache principalCache) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.principalCache = principalCache;
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         User user = userRepository.findByLogin(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User is not found with login: " + username));
         return UserDetailsImpl.from(user);
     }
 
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPasswordHash) {
+        User user = userRepository.findByLogin(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User is not found with login: " + userDetails.getUsername()));
+        user.setPasswordHash(newPasswordHash);
+        principalCache.invalidate(user.getLogin());
+        return UserDetailsImpl.from(user);
+    }
+
     @Override
     @Transactional
     public User createUser(CreateUserCommand command) {
@@ -45,13 +56,21 @@ public class UserServiceImpl implements UserDetailsService, UserService {
             throw new LoginIsNotUniqueException();
         }
         var user = getUserFromCommand(command);
-        return userRepository.save(user);
+        var savedUser = userRepository.save(user);
+        principalCache.invalidate(savedUser.getLogin());
+        return savedUser;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean existsByLogin(String login) {
+        return userRepository.existsByLogin(login);
     }
 
     private User getUserFromCommand(CreateUserCommand command) {
         return User.builder()
                 .login(command.getLogin())
-                .passwordHash(passwordEncoder.encode(command.getPassword()))
+                .passwordHash(command.getPasswordHash())
                 .roles(command.getRoles()
                         .stream()
                         .map(roleName -> new RoleAssignment(Role.valueOf(roleName)))
@@ -60,4 +79,4 @@ public class UserServiceImpl implements UserDetailsService, UserService {
     }
 
 
-}
+}
\ No newline at end of file
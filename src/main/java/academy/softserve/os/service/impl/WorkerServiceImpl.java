@@ -1,16 +1,19 @@
 package academy.softserve.os.service.impl;
 
+import academy.softserve.os.exception.LoginIsNotUniqueException;
 import academy.softserve.os.model.Role;
 import academy.softserve.os.model.Worker;
 import academy.softserve.os.repository.WorkerRepository;
 import academy.softserve.os.service.UserService;
 import academy.softserve.os.service.WorkerService;
+import academy.softserve.os.service.cache.PrincipalCache;
 import academy.softserve.os.service.command.CreateUserCommand;
 import academy.softserve.os.service.command.CreateWorkerCommand;
+import academy.softserve.os.service.password.PasswordHasher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import javax.transaction.Transactional;
 import java.util.Set;
 
 @Service
@@ -18,29 +21,46 @@ public class WorkerServiceImpl implements WorkerService {
 
     private final WorkerRepository workerRepository;
     private final UserService userService;
+    private final PrincipalCache principalCache;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transactionTemplate;
 
     @Autowired
     WorkerServiceImpl(WorkerRepository workerRepository,
-                      UserService userService) {
+                      UserService userService,
+                      PrincipalCache principalCache,
+                      PasswordHasher passwordHasher,
+                      TransactionTemplate transactionTemplate) {
         this.workerRepository = workerRepository;
         this.userService = userService;
+        this.principalCache = principalCache;
+        this.passwordHasher = passwordHasher;
+        this.transactionTemplate = transactionTemplate;
     }
 
     @Override
-    @Transactional
     public Worker createWorker(CreateWorkerCommand createWorkerCommand) {
-
-        var user = userService.createUser(getCreateUserCommand(createWorkerCommand));
-        var worker = getWorkerFromCommand(createWorkerCommand);
-        worker.setUser(user);
-        return workerRepository.save(worker);
+        // a cheap check so a taken login doesn't cost a hash; createUser still guards against a concurrent sign-up
+        if (userService.existsByLogin(createWorkerCommand.getLogin())) {
+            throw new LoginIsNotUniqueException();
+        }
+        // hash before the transaction starts so the connection is not held while BCrypt runs
+        var passwordHash = passwordHasher.hash(createWorkerCommand.getPassword()).join();
+        return transactionTemplate.execute(status -> {
+            var user = userService.createUser(getCreateUserCommand(createWorkerCommand, passwordHash));
+            var worker = getWorkerFromCommand(createWorkerCommand);
+            worker.setUser(user);
+            var savedWorker = workerRepository.save(worker);
+            principalCache.invalidate(user.getLogin());
+            return savedWorker;
+        });
     }
 
-    private CreateUserCommand getCreateUserCommand(CreateWorkerCommand createWorkerCommand) {
+    private CreateUserCommand getCreateUserCommand(CreateWorkerCommand createWorkerCommand, String passwordHash) {
         return CreateUserCommand
                 .builder()
                 .login(createWorkerCommand.getLogin())
-                .password(createWorkerCommand.getPassword())
+                .passwordHash(passwordHash)
                 .roles(Set.of(Role.ROLE_WORKER.name()))
                 .build();
     }
@@ -0,0 +1,156 @@
+package academy.softserve.os.service.importing;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads RFC 4180 records one at a time. The first record is a header naming the columns client, city, street, house,
+ * room and description in any order; room may be omitted.
+ */
+public class CsvImportRowReader implements ImportRowReader {
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    private final Reader reader;
+    private final StringBuilder field = new StringBuilder();
+    private int[] columns;
+    private long line = 1;
+    private int pushedBack = -1;
+
+    public CsvImportRowReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        if (columns == null) {
+            readHeader();
+        }
+        while (true) {
+            var start = line;
+            var values = readRecord();
+            if (values == null) {
+                return null;
+            }
+            if (values.size() > 1 || !values.get(0).isEmpty()) {
+                return toRow(start, values);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader() throws IOException {
+        var header = readRecord();
+        if (header == null) {
+            throw new IOException("CSV input has no header");
+        }
+        columns = new int[ImportColumn.values().length];
+        Arrays.fill(columns, -1);
+        for (var i = 0; i < header.size(); i++) {
+            var name = header.get(i).replace(BYTE_ORDER_MARK, "").trim();
+            for (var column : ImportColumn.values()) {
+                if (column.header().equalsIgnoreCase(name)) {
+                    columns[column.ordinal()] = i;
+                }
+            }
+        }
+        for (var column : ImportColumn.values()) {
+            if (column != ImportColumn.ROOM && columns[column.ordinal()] < 0) {
+                throw new IOException("CSV header has no " + column.header() + " column");
+            }
+        }
+    }
+
+    private ImportRow toRow(long start, List<String> values) {
+        return ImportRow.builder()
+                .line(start)
+                .client(value(values, ImportColumn.CLIENT))
+                .city(value(values, ImportColumn.CITY))
+                .street(value(values, ImportColumn.STREET))
+                .house(value(values, ImportColumn.HOUSE))
+                .room(value(values, ImportColumn.ROOM))
+                .description(value(values, ImportColumn.DESCRIPTION))
+                .build();
+    }
+
+    private String value(List<String> values, ImportColumn column) {
+        var index = columns[column.ordinal()];
+        return index >= 0 && index < values.size() ? values.get(index) : null;
+    }
+
+    private List<String> readRecord() throws IOException {
+        var c = read();
+        if (c < 0) {
+            return null;
+        }
+        var values = new ArrayList<String>();
+        var quoted = false;
+        field.setLength(0);
+        while (true) {
+            if (quoted) {
+                if (c < 0) {
+                    throw new IOException("Unterminated quoted field starting before line " + line);
+                }
+                if (c == '"') {
+                    var next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c < 0) {
+                if (c == '\r') {
+                    var next = read();
+                    if (next != '\n') {
+                        pushedBack = next;
+                    }
+                }
+                if (c >= 0) {
+                    line++;
+                }
+                values.add(field.toString());
+                return values;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -1) {
+            var c = pushedBack;
+            pushedBack = -1;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private enum ImportColumn {
+        CLIENT, CITY, STREET, HOUSE, ROOM, DESCRIPTION;
+
+        String header() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+}
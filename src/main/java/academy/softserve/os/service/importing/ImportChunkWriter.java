@@ -0,0 +1,139 @@
+package academy.softserve.os.service.importing;
+
+import academy.softserve.os.model.Address;
+import academy.softserve.os.model.Client;
+import academy.softserve.os.model.Equipment;
+import academy.softserve.os.repository.AddressRepository;
+import academy.softserve.os.repository.ClientRepository;
+import academy.softserve.os.repository.EquipmentRepository;
+import academy.softserve.os.service.address.AddressKey;
+import academy.softserve.os.service.address.AddressKeyCache;
+import academy.softserve.os.service.search.ClientNameIndex;
+import academy.softserve.os.service.search.EquipmentDescriptionIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+@Component
+@RequiredArgsConstructor
+public class ImportChunkWriter {
+    private final ClientRepository clientRepository;
+    private final AddressRepository addressRepository;
+    private final EquipmentRepository equipmentRepository;
+    private final ClientNameIndex clientNameIndex;
+    private final AddressKeyCache addressKeyCache;
+    private final EquipmentDescriptionIndex descriptionIndex;
+
+    @Transactional
+    public void write(List<ImportRecord> records) {
+        var clientIds = resolveClients(records);
+
+        var addressIds = new HashMap<AddressKey, Long>();
+        var newAddresses = new LinkedHashMap<AddressKey, Address>();
+        for (var record : records) {
+            var key = record.getAddress();
+            addressKeyCache.find(key).ifPresentOrElse(
+                    id -> addressIds.put(key, id),
+                    () -> newAddresses.computeIfAbsent(key, ImportChunkWriter::toAddress));
+        }
+        addressRepository.saveAll(newAddresses.values());
+        newAddresses.forEach((key, address) -> {
+            addressIds.put(key, address.getId());
+            addressKeyCache.putAfterCommit(key, address.getId());
+        });
+
+        var equipmentKeys = equipmentRepository.findKeysByAddressIds(new HashSet<>(addressIds.values())).stream()
+                .map(view -> new EquipmentKey(view.getDescription(), view.getClientId(), view.getAddressId()))
+                .collect(toCollection(HashSet::new));
+        var newEquipment = new ArrayList<Equipment>();
+        for (var record : records) {
+            var key = new EquipmentKey(record.getDescription(),
+                    clientIds.get(record.getClient()),
+                    addressIds.get(record.getAddress()));
+            if (equipmentKeys.add(key)) {
+                newEquipment.add(Equipment.builder()
+                        .description(key.getDescription())
+                        .client(clientRepository.getReferenceById(key.getClientId()))
+                        .address(addressRepository.getReferenceById(key.getAddressId()))
+                        .build());
+            }
+        }
+        equipmentRepository.saveAll(newEquipment).forEach(descriptionIndex::indexAfterCommit);
+    }
+
+    @Transactional
+    public void writeWithUpserts(List<ImportRecord> records) {
+        var clientIds = upsertClients(records);
+        var addressIds = new HashMap<AddressKey, Long>();
+        var equipmentKeys = new HashSet<EquipmentKey>();
+        for (var record : records) {
+            var addressId = addressIds.computeIfAbsent(record.getAddress(), key -> {
+                var id = addressRepository.upsert(key.getCity(), key.getStreet(), key.getHouse(), key.getRoom());
+                addressKeyCache.putAfterCommit(key, id);
+                return id;
+            });
+            var key = new EquipmentKey(record.getDescription(), clientIds.get(record.getClient()), addressId);
+            if (equipmentKeys.add(key)) {
+                var id = equipmentRepository.upsert(key.getDescription(), key.getClientId(), key.getAddressId());
+                descriptionIndex.indexAfterCommit(Equipment.builder().id(id).description(key.getDescription()).build());
+            }
+        }
+    }
+
+    private Map<String, Long> resolveClients(List<ImportRecord> records) {
+        var names = records.stream().map(ImportRecord::getClient).collect(toSet());
+        var clientIds = new HashMap<String, Long>();
+        clientRepository.findAllByNameIn(names).forEach(client -> clientIds.put(client.getName(), client.getId()));
+        var newClients = names.stream()
+                .filter(name -> !clientIds.containsKey(name))
+                .map(name -> Client.builder().name(name).build())
+                .collect(toList());
+        clientRepository.saveAll(newClients).forEach(client -> {
+            clientIds.put(client.getName(), client.getId());
+            clientNameIndex.indexAfterCommit(client);
+        });
+        return clientIds;
+    }
+
+    private Map<String, Long> upsertClients(List<ImportRecord> records) {
+        var names = records.stream().map(ImportRecord::getClient).collect(toSet());
+        var clientIds = new HashMap<String, Long>();
+        clientRepository.findAllByNameIn(names).forEach(client -> clientIds.put(client.getName(), client.getId()));
+        names.stream()
+                .filter(name -> !clientIds.containsKey(name))
+                .forEach(name -> {
+                    var id = clientRepository.upsert(name);
+                    clientIds.put(name, id);
+                    clientNameIndex.indexAfterCommit(Client.builder().id(id).name(name).build());
+                });
+        return clientIds;
+    }
+
+    private static Address toAddress(AddressKey key) {
+        return Address.builder()
+                .city(key.getCity())
+                .street(key.getStreet())
+                .house(key.getHouse())
+                .room(key.getRoom())
+                .build();
+    }
+
+    @Value
+    private static class EquipmentKey {
+        String description;
+        Long clientId;
+        Long addressId;
+    }
+}
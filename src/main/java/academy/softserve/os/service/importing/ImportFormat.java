@@ -0,0 +1,25 @@
+package academy.softserve.os.service.importing;
+
+import org.springframework.http.MediaType;
+
+public enum ImportFormat {
+    CSV(".csv"),
+    JSON(".json");
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private final String extension;
+
+    ImportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static ImportFormat of(MediaType contentType) {
+        return MediaType.valueOf(TEXT_CSV_VALUE).isCompatibleWith(contentType) ? CSV : JSON;
+    }
+}
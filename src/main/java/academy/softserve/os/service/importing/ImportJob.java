@@ -0,0 +1,107 @@
+package academy.softserve.os.service.importing;
+
+import academy.softserve.os.api.dto.ImportStatusDTO;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ImportJob {
+    private static final int MAX_ERRORS = 100;
+
+    private final UUID id;
+    private final ImportFormat format;
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong rowsWritten = new AtomicLong();
+    private final AtomicLong rowsRejected = new AtomicLong();
+    private final List<String> errors = new ArrayList<>();
+    private volatile State state = State.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+
+    public ImportJob(UUID id, ImportFormat format) {
+        this.id = id;
+        this.format = format;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public ImportFormat getFormat() {
+        return format;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    void start() {
+        startedAt = Instant.now();
+        state = State.RUNNING;
+    }
+
+    void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    void rowsWritten(int count) {
+        rowsWritten.addAndGet(count);
+    }
+
+    void reject(long line, String reason) {
+        rowsRejected.incrementAndGet();
+        addError("line " + line + ": " + reason);
+    }
+
+    void complete() {
+        finishedAt = Instant.now();
+        state = State.COMPLETED;
+    }
+
+    void fail(String reason) {
+        addError(reason);
+        finishedAt = Instant.now();
+        state = State.FAILED;
+    }
+
+    public ImportStatusDTO snapshot() {
+        var started = startedAt;
+        var finished = finishedAt;
+        var written = rowsWritten.get();
+        var elapsed = started == null ? Duration.ZERO : Duration.between(started, finished == null ? Instant.now() : finished);
+        List<String> errorsCopy;
+        synchronized (errors) {
+            errorsCopy = List.copyOf(errors);
+        }
+        return ImportStatusDTO.builder()
+                .id(id)
+                .state(state.name())
+                .rowsRead(rowsRead.get())
+                .rowsWritten(written)
+                .rowsRejected(rowsRejected.get())
+                .rowsPerSecond(elapsed.isZero() ? 0 : written * 1000d / Math.max(1, elapsed.toMillis()))
+                .startedAt(started)
+                .finishedAt(finished)
+                .errors(errorsCopy)
+                .build();
+    }
+
+    private void addError(String error) {
+        synchronized (errors) {
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(error);
+            }
+        }
+    }
+
+    public enum State {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
@@ -0,0 +1,13 @@
+package academy.softserve.os.service.importing;
+
+import academy.softserve.os.service.address.AddressKey;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ImportRecord {
+    private final String client;
+    private final AddressKey address;
+    private final String description;
+}
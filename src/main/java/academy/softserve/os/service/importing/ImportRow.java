@@ -0,0 +1,30 @@
+package academy.softserve.os.service.importing;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ImportRow {
+    @JsonIgnore
+    private long line;
+
+    private String client;
+
+    private String city;
+
+    private String street;
+
+    private String house;
+
+    private String room;
+
+    private String description;
+}
@@ -0,0 +1,11 @@
+package academy.softserve.os.service.importing;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface ImportRowReader extends Closeable {
+    /**
+     * @return the next row, or null once the input is exhausted
+     */
+    ImportRow next() throws IOException;
+}
@@ -0,0 +1,208 @@
+package academy.softserve.os.service.importing;
+
+import academy.softserve.os.exception.ImportException;
+import academy.softserve.os.exception.ImportTooLargeException;
+import academy.softserve.os.service.EquipmentService;
+import academy.softserve.os.service.address.AddressKey;
+import academy.softserve.os.service.cache.ExpiringLruCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+@Service
+public class ImportService {
+    private static final int MAX_JOBS = 100;
+    private static final int SPOOL_BUFFER_SIZE = 8192;
+    private static final long JOB_TTL_MS = 24 * 60 * 60 * 1000L;
+    private static final int MAX_CLIENT_LENGTH = 50;
+    private static final int MAX_CITY_LENGTH = 50;
+    private static final int MAX_STREET_LENGTH = 50;
+    private static final int MAX_HOUSE_LENGTH = 5;
+    private static final int MAX_ROOM_LENGTH = 250;
+    private static final int MAX_DESCRIPTION_LENGTH = 250;
+
+    private final ImportChunkWriter chunkWriter;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final long maxBytes;
+    private final ThreadPoolTaskExecutor executor;
+    private final ExpiringLruCache<UUID, ImportJob> jobs = new ExpiringLruCache<>(MAX_JOBS, JOB_TTL_MS);
+
+    public ImportService(ImportChunkWriter chunkWriter,
+                         ObjectMapper objectMapper,
+                         @Value("${app.importChunkSize}") int chunkSize,
+                         @Value("${app.importThreads}") int threads,
+                         @Value("${app.importQueueCapacity}") int queueCapacity,
+                         @Value("${app.importMaxBytes}") long maxBytes) {
+        this.chunkWriter = chunkWriter;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.maxBytes = maxBytes;
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("import-");
+        executor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public ImportJob submit(ImportFormat format, InputStream body) {
+        var file = spool(format, body);
+        var job = new ImportJob(UUID.randomUUID(), format);
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, file));
+        } catch (TaskRejectedException e) {
+            jobs.invalidate(job.getId());
+            delete(file);
+            throw new ImportException("Too many imports in progress");
+        }
+        return job;
+    }
+
+    public Optional<ImportJob> findJob(UUID id) {
+        return Optional.ofNullable(jobs.getIfPresent(id));
+    }
+
+    /**
+     * Copies the upload to a temporary file, giving up as soon as it exceeds {@code app.importMaxBytes}: the request
+     * stream is read directly, so no multipart or request size limit applies to it.
+     */
+    private Path spool(ImportFormat format, InputStream body) {
+        Path file = null;
+        try {
+            file = Files.createTempFile("import-", format.getExtension());
+            try (var out = Files.newOutputStream(file)) {
+                var buffer = new byte[SPOOL_BUFFER_SIZE];
+                long total = 0;
+                int read;
+                while ((read = body.read(buffer)) != -1) {
+                    total += read;
+                    if (total > maxBytes) {
+                        throw new ImportTooLargeException("The upload is larger than " + maxBytes + " bytes");
+                    }
+                    out.write(buffer, 0, read);
+                }
+            }
+            return file;
+        } catch (IOException e) {
+            delete(file);
+            throw new ImportException("Could not read the upload: " + e.getMessage());
+        } catch (RuntimeException e) {
+            delete(file);
+            throw e;
+        }
+    }
+
+    private void run(ImportJob job, Path file) {
+        job.start();
+        try (var reader = open(job.getFormat(), file)) {
+            var chunk = new ArrayList<ImportRecord>(chunkSize);
+            ImportRow row;
+            while ((row = reader.next()) != null) {
+                job.rowRead();
+                var error = validate(row);
+                if (error != null) {
+                    job.reject(row.getLine(), error);
+                    continue;
+                }
+                chunk.add(toRecord(row));
+                if (chunk.size() == chunkSize) {
+                    write(job, chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                write(job, chunk);
+            }
+            job.complete();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Import {} failed", job.getId(), e);
+            job.fail(e.getMessage());
+        } finally {
+            delete(file);
+        }
+    }
+
+    private ImportRowReader open(ImportFormat format, Path file) throws IOException {
+        if (format == ImportFormat.CSV) {
+            return new CsvImportRowReader(Files.newBufferedReader(file, StandardCharsets.UTF_8));
+        }
+        InputStream in = Files.newInputStream(file);
+        return new JsonImportRowReader(objectMapper.readerFor(ImportRow.class).readValues(in));
+    }
+
+    private void write(ImportJob job, List<ImportRecord> chunk) {
+        try {
+            chunkWriter.write(chunk);
+        } catch (DataIntegrityViolationException e) {
+            // a concurrent writer inserted one of the keys first
+            chunkWriter.writeWithUpserts(chunk);
+        }
+        job.rowsWritten(chunk.size());
+    }
+
+    private static String validate(ImportRow row) {
+        if (isBlank(row.getClient())) {
+            return "client is missing";
+        }
+        if (isBlank(row.getCity()) || isBlank(row.getStreet()) || isBlank(row.getHouse())) {
+            return "address is incomplete";
+        }
+        if (isBlank(row.getDescription())) {
+            return "description is missing";
+        }
+        if (row.getClient().trim().length() > MAX_CLIENT_LENGTH
+                || row.getCity().trim().length() > MAX_CITY_LENGTH
+                || row.getStreet().trim().length() > MAX_STREET_LENGTH
+                || row.getHouse().trim().length() > MAX_HOUSE_LENGTH
+                || (row.getRoom() != null && row.getRoom().trim().length() > MAX_ROOM_LENGTH)
+                || row.getDescription().trim().length() > MAX_DESCRIPTION_LENGTH) {
+            return "value too long";
+        }
+        return null;
+    }
+
+    private static ImportRecord toRecord(ImportRow row) {
+        return new ImportRecord(
+                row.getClient().trim(),
+                AddressKey.of(row.getCity(), row.getStreet(), row.getHouse(), row.getRoom()),
+                EquipmentService.normalizeDescription(row.getDescription()));
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static void delete(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete import spool file {}", file, e);
+        }
+    }
+}
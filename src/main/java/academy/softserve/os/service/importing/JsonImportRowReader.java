@@ -0,0 +1,29 @@
+package academy.softserve.os.service.importing;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+
+import java.io.IOException;
+
+public class JsonImportRowReader implements ImportRowReader {
+    private final MappingIterator<ImportRow> rows;
+    private long line;
+
+    public JsonImportRowReader(MappingIterator<ImportRow> rows) {
+        this.rows = rows;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        if (!rows.hasNextValue()) {
+            return null;
+        }
+        var row = rows.nextValue();
+        row.setLine(++line);
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        rows.close();
+    }
+}
@@ -0,0 +1,47 @@
+package academy.softserve.os.service.password;
+
+import academy.softserve.os.exception.PasswordHashingException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Runs password encoding on its own bounded pool so that callers can hash before opening a transaction, keeping the
+ * database connection out of key stretching, and a burst of sign-ups cannot run more hashes at once than the pool has
+ * threads. Callers that wait on the result still hold their own thread meanwhile.
+ */
+@Component
+public class PasswordHasher {
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Value("${app.passwordHashThreads}") int threads,
+                          @Value("${app.passwordHashQueueCapacity}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public CompletableFuture<String> hash(String rawPassword) {
+        try {
+            return CompletableFuture.supplyAsync(() -> passwordEncoder.encode(rawPassword), executor);
+        } catch (TaskRejectedException e) {
+            throw new PasswordHashingException("Too many password hashing requests in progress");
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package academy.softserve.os.service.payroll;
+
+import academy.softserve.os.api.dto.PriceDTO;
+import academy.softserve.os.repository.TaskRepository.PayrollView;
+import academy.softserve.os.service.price.PriceBook;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Sums one worker's earnings, splitting long task lists in halves across the fork-join pool.
+ */
+class PayrollAccumulator extends RecursiveTask<PayrollAccumulator.Totals> {
+    private static final int THRESHOLD = 1024;
+
+    private final List<PayrollView> tasks;
+    private final PriceBook.Snapshot prices;
+
+    PayrollAccumulator(List<PayrollView> tasks, PriceBook.Snapshot prices) {
+        this.tasks = tasks;
+        this.prices = prices;
+    }
+
+    @Override
+    protected Totals compute() {
+        if (tasks.size() > THRESHOLD) {
+            var middle = tasks.size() / 2;
+            var left = new PayrollAccumulator(tasks.subList(0, middle), prices);
+            left.fork();
+            var right = new PayrollAccumulator(tasks.subList(middle, tasks.size()), prices).compute();
+            return left.join().plus(right);
+        }
+        var earnings = BigDecimal.ZERO;
+        var unpriced = 0;
+        for (var task : tasks) {
+            var workerPrice = task.getJobId() == null || task.getPartFactor() == null
+                    ? null
+                    : prices.priceAt(task.getJobId(), task.getTimeCreate().toLocalDate())
+                            .map(PriceDTO::getWorkerPrice)
+                            .orElse(null);
+            if (workerPrice == null) {
+                unpriced++;
+            } else {
+                earnings = earnings.add(workerPrice.multiply(BigDecimal.valueOf(task.getPartFactor())));
+            }
+        }
+        return new Totals(tasks.size(), unpriced, earnings);
+    }
+
+    static final class Totals {
+        final int taskCount;
+        final int unpricedTaskCount;
+        final BigDecimal earnings;
+
+        Totals(int taskCount, int unpricedTaskCount, BigDecimal earnings) {
+            this.taskCount = taskCount;
+            this.unpricedTaskCount = unpricedTaskCount;
+            this.earnings = earnings;
+        }
+
+        Totals plus(Totals other) {
+            return new Totals(taskCount + other.taskCount, unpricedTaskCount + other.unpricedTaskCount,
+                    earnings.add(other.earnings));
+        }
+    }
+}
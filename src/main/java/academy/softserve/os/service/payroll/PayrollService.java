@@ -0,0 +1,105 @@
+package academy.softserve.os.service.payroll;
+
+import academy.softserve.os.api.dto.PayrollLineDTO;
+import academy.softserve.os.repository.TaskRepository;
+import academy.softserve.os.repository.TaskRepository.PayrollView;
+import academy.softserve.os.service.price.PriceBook;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.annotation.PreDestroy;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+@Service
+public class PayrollService {
+    private final TaskRepository taskRepository;
+    private final PriceBook priceBook;
+    private final ForkJoinPool pool;
+    private final int maxPendingWorkers;
+
+    public PayrollService(TaskRepository taskRepository,
+                          PriceBook priceBook,
+                          @Value("${app.payrollParallelism}") int parallelism) {
+        this.taskRepository = taskRepository;
+        this.priceBook = priceBook;
+        this.pool = new ForkJoinPool(parallelism);
+        this.maxPendingWorkers = parallelism * 4;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Every worker's earnings for tasks created from {@code from} to {@code to}, both inclusive, in worker id order.
+     * Tasks are streamed once, ordered by worker; each worker's tasks are summed on the fork-join pool while the next
+     * worker is being read, with a bounded number of workers in flight. Only the per-worker lines are kept, so the
+     * connection is released before the caller writes them to a possibly slow client.
+     */
+    @Transactional(readOnly = true)
+    public List<PayrollLineDTO> exportPayroll(LocalDate from, LocalDate to) {
+        var lines = new ArrayList<PayrollLineDTO>();
+        var prices = priceBook.loadAll();
+        var pending = new ArrayDeque<PendingWorker>();
+        try (var tasks = taskRepository.streamPayrollViews(from.atStartOfDay(), to.plusDays(1).atStartOfDay())) {
+            var iterator = tasks.iterator();
+            List<PayrollView> workerTasks = new ArrayList<>();
+            while (iterator.hasNext()) {
+                var task = iterator.next();
+                if (!workerTasks.isEmpty() && !workerTasks.get(0).getWorkerId().equals(task.getWorkerId())) {
+                    submit(pending, workerTasks, prices, lines);
+                    workerTasks = new ArrayList<>();
+                }
+                workerTasks.add(task);
+            }
+            if (!workerTasks.isEmpty()) {
+                submit(pending, workerTasks, prices, lines);
+            }
+            while (!pending.isEmpty()) {
+                lines.add(pending.poll().toLine());
+            }
+            return lines;
+        } finally {
+            // only left over on failure: wait so no accumulation outlives the request
+            pending.forEach(worker -> worker.totals.quietlyJoin());
+        }
+    }
+
+    private void submit(ArrayDeque<PendingWorker> pending, List<PayrollView> workerTasks, PriceBook.Snapshot prices,
+                        List<PayrollLineDTO> lines) {
+        pending.add(new PendingWorker(workerTasks.get(0), pool.submit(new PayrollAccumulator(workerTasks, prices))));
+        while (pending.size() > maxPendingWorkers || (!pending.isEmpty() && pending.peek().totals.isDone())) {
+            lines.add(pending.poll().toLine());
+        }
+    }
+
+    private static final class PendingWorker {
+        private final PayrollView worker;
+        private final ForkJoinTask<PayrollAccumulator.Totals> totals;
+
+        private PendingWorker(PayrollView worker, ForkJoinTask<PayrollAccumulator.Totals> totals) {
+            this.worker = worker;
+            this.totals = totals;
+        }
+
+        private PayrollLineDTO toLine() {
+            var result = totals.join();
+            return PayrollLineDTO.builder()
+                    .workerId(worker.getWorkerId())
+                    .firstName(worker.getFirstName())
+                    .lastName(worker.getLastName())
+                    .taskCount(result.taskCount)
+                    .unpricedTaskCount(result.unpricedTaskCount)
+                    .earnings(result.earnings.setScale(2, RoundingMode.HALF_UP))
+                    .build();
+        }
+    }
+}
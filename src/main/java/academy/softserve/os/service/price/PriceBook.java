@@ -0,0 +1,175 @@
+package academy.softserve.os.service.price;
+
+import academy.softserve.os.api.dto.PriceDTO;
+import academy.softserve.os.repository.PriceRepository;
+import academy.softserve.os.service.cache.ExpiringLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Price history per job, loaded on first use and kept as parallel arrays sorted by effective date so that the price in
+ * force on a given day is a binary search away. At most {@code app.priceBookCacheSize} jobs are kept.
+ */
+@Component
+public class PriceBook {
+    private final PriceRepository priceRepository;
+    private final ExpiringLruCache<Long, JobPrices> pricesByJob;
+    private long invalidations;
+
+    public PriceBook(PriceRepository priceRepository,
+                     @Value("${app.priceBookCacheSize}") int cacheSize,
+                     @Value("${app.priceBookCacheTtlMs}") long cacheTtlMs) {
+        this.priceRepository = priceRepository;
+        this.pricesByJob = new ExpiringLruCache<>(cacheSize, cacheTtlMs);
+    }
+
+    public Optional<PriceDTO> priceAt(Long jobId, LocalDate date) {
+        var prices = pricesByJob.getIfPresent(jobId);
+        if (prices == null) {
+            var stamp = stamp();
+            prices = JobPrices.of(priceRepository.findDTOsByJobId(jobId));
+            if (prices.isEmpty()) {
+                return Optional.empty();
+            }
+            cache(jobId, prices, stamp);
+        }
+        return prices.at(date.toEpochDay());
+    }
+
+    /**
+     * Reads the prices of every job with one query, caching jobs that are not cached yet. The returned snapshot is not
+     * affected by later invalidations, so a report priced from it is consistent.
+     */
+    public Snapshot loadAll() {
+        var stamp = stamp();
+        var snapshot = new HashMap<Long, JobPrices>();
+        var jobPrices = new ArrayList<PriceDTO>();
+        Long jobId = null;
+        for (var price : priceRepository.findAllJobPriceViews()) {
+            if (!price.getJobId().equals(jobId)) {
+                if (jobId != null) {
+                    snapshot.put(jobId, JobPrices.of(jobPrices));
+                }
+                jobId = price.getJobId();
+                jobPrices.clear();
+            }
+            jobPrices.add(new PriceDTO(price.getId(), price.getClientPrice(), price.getWorkerPrice(), price.getDateSince()));
+        }
+        if (jobId != null) {
+            snapshot.put(jobId, JobPrices.of(jobPrices));
+        }
+        snapshot.forEach((id, prices) -> cache(id, prices, stamp));
+        return new Snapshot(snapshot);
+    }
+
+    public void invalidateAfterCommit(Long jobId) {
+        if (jobId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(jobId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(jobId);
+            }
+        });
+    }
+
+    private synchronized long stamp() {
+        return invalidations;
+    }
+
+    private synchronized void invalidate(Long jobId) {
+        invalidations++;
+        pricesByJob.invalidate(jobId);
+    }
+
+    private synchronized void cache(Long jobId, JobPrices prices, long stamp) {
+        // a price committed while these were read may be missing from them, so only cache an undisturbed read
+        if (invalidations == stamp) {
+            pricesByJob.put(jobId, prices);
+        }
+    }
+
+    public int size() {
+        return pricesByJob.size();
+    }
+
+    public static final class Snapshot {
+        private final Map<Long, JobPrices> pricesByJob;
+
+        private Snapshot(Map<Long, JobPrices> pricesByJob) {
+            this.pricesByJob = pricesByJob;
+        }
+
+        public Optional<PriceDTO> priceAt(Long jobId, LocalDate date) {
+            var prices = pricesByJob.get(jobId);
+            return prices == null ? Optional.empty() : prices.at(date.toEpochDay());
+        }
+    }
+
+    private static final class JobPrices {
+        private final long[] ids;
+        private final long[] effectiveDays;
+        private final BigDecimal[] clientPrices;
+        private final BigDecimal[] workerPrices;
+
+        private JobPrices(int size) {
+            ids = new long[size];
+            effectiveDays = new long[size];
+            clientPrices = new BigDecimal[size];
+            workerPrices = new BigDecimal[size];
+        }
+
+        // expects prices ordered by date since, then id
+        static JobPrices of(List<PriceDTO> prices) {
+            var jobPrices = new JobPrices(prices.size());
+            for (var i = 0; i < prices.size(); i++) {
+                var price = prices.get(i);
+                jobPrices.ids[i] = price.getId();
+                jobPrices.effectiveDays[i] = price.getDateSince().toEpochDay();
+                jobPrices.clientPrices[i] = price.getClientPrice();
+                jobPrices.workerPrices[i] = price.getWorkerPrice();
+            }
+            return jobPrices;
+        }
+
+        boolean isEmpty() {
+            return ids.length == 0;
+        }
+
+        Optional<PriceDTO> at(long epochDay) {
+            // last index whose effective day is not after epochDay, so the latest of same-day prices wins
+            var low = 0;
+            var high = effectiveDays.length - 1;
+            var found = -1;
+            while (low <= high) {
+                var mid = (low + high) >>> 1;
+                if (effectiveDays[mid] <= epochDay) {
+                    found = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            if (found < 0) {
+                return Optional.empty();
+            }
+            return Optional.of(new PriceDTO(ids[found], clientPrices[found], workerPrices[found],
+                    LocalDate.ofEpochDay(effectiveDays[found])));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package academy.softserve.os.service.search;
+
+import academy.softserve.os.model.Client;
+import academy.softserve.os.repository.ClientRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+@Component
+public class ClientNameIndex {
+    private final ClientRepository clientRepository;
+    private final SuffixIndex index = new SuffixIndex();
+
+    public ClientNameIndex(ClientRepository clientRepository) {
+        this.clientRepository = clientRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        index.clear();
+        try (var names = clientRepository.streamNames()) {
+            names.forEach(name -> index.put(name.getId(), name.getName()));
+        }
+    }
+
+    public void indexAfterCommit(Client client) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            index.put(client.getId(), client.getName());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                index.put(client.getId(), client.getName());
+            }
+        });
+    }
+
+    public List<Long> search(String name, int limit) {
+        return index.search(name, limit);
+    }
+
+    public int size() {
+        return index.size();
+    }
+}
@@ -0,0 +1,56 @@
+package academy.softserve.os.service.search;
+
+import academy.softserve.os.model.Equipment;
+import academy.softserve.os.repository.EquipmentRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+@Component
+public class EquipmentDescriptionIndex {
+    private final EquipmentRepository equipmentRepository;
+    private final TrigramIndex index = new TrigramIndex();
+
+    public EquipmentDescriptionIndex(EquipmentRepository equipmentRepository) {
+        this.equipmentRepository = equipmentRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        index.clear();
+        try (var descriptions = equipmentRepository.streamDescriptions()) {
+            descriptions.forEach(description -> index.put(description.getId(), description.getDescription()));
+        }
+    }
+
+    public void indexAfterCommit(Equipment equipment) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            index.put(equipment.getId(), equipment.getDescription());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                index.put(equipment.getId(), equipment.getDescription());
+            }
+        });
+    }
+
+    public boolean isSearchable(String query) {
+        return TrigramIndex.isSearchable(query);
+    }
+
+    public List<Long> search(String query) {
+        return index.search(query);
+    }
+
+    public int size() {
+        return index.size();
+    }
+}
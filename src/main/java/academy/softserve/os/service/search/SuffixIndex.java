@@ -0,0 +1,209 @@
+package academy.softserve.os.service.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Dynamic suffix array over short texts: one sorted (text, offset) pair per suffix, sharing the text instead of copying
+ * each suffix, so memory grows linearly with the total text length. Matches are ranked prefix matches first, then by
+ * length, text and id, and only the best {@code limit} are ever kept.
+ */
+public class SuffixIndex {
+    // a query whose suffix range is larger than this many suffixes per requested result is answered by walking the
+    // texts in rank order instead, which stops as soon as enough matches are found
+    private static final int RANGE_SCAN_FACTOR = 32;
+    private static final Comparator<Text> BY_RANK = Comparator.<Text>comparingInt(text -> text.value.length())
+            .thenComparing(text -> text.value)
+            .thenComparingLong(text -> text.id);
+
+    private final Map<Long, Text> texts = new HashMap<>();
+    private final NavigableSet<Text> ranked = new TreeSet<>(BY_RANK);
+    private final NavigableSet<Suffix> suffixes = new TreeSet<>(SuffixIndex::compare);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(Long id, String text) {
+        if (id == null) {
+            return;
+        }
+        var entry = new Text(id, normalize(text));
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            texts.put(id, entry);
+            ranked.add(entry);
+            for (var i = 0; i < entry.value.length(); i++) {
+                suffixes.add(new Suffix(entry, i));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            texts.clear();
+            ranked.clear();
+            suffixes.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return texts.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Long> search(String query, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        var normalized = normalize(query);
+        lock.readLock().lock();
+        try {
+            var result = searchSuffixes(normalized, limit);
+            return result != null ? result : searchRanked(normalized, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Keeps the best {@code limit} texts of the suffix range in a bounded heap, or returns null once the range turns
+     * out to be too large for that to be cheaper than {@link #searchRanked}.
+     */
+    private List<Long> searchSuffixes(String query, int limit) {
+        var range = suffixes.subSet(probe(query), true, probe(query + Character.MAX_VALUE), false);
+        var order = Comparator.<Text>comparingInt(text -> text.value.startsWith(query) ? 0 : 1).thenComparing(BY_RANK);
+        var best = new PriorityQueue<Text>(limit, order.reversed());
+        var bestIds = new HashSet<Long>();
+        var budget = (long) limit * RANGE_SCAN_FACTOR;
+        for (var suffix : range) {
+            if (--budget < 0) {
+                return null;
+            }
+            var text = suffix.text;
+            if (bestIds.contains(text.id)) {
+                continue;
+            }
+            if (best.size() < limit) {
+                best.add(text);
+                bestIds.add(text.id);
+            } else if (order.compare(text, best.peek()) < 0) {
+                bestIds.remove(best.poll().id);
+                best.add(text);
+                bestIds.add(text.id);
+            }
+        }
+        var result = new ArrayList<Long>(best.size());
+        while (!best.isEmpty()) {
+            result.add(best.poll().id);
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    private List<Long> searchRanked(String query, int limit) {
+        var result = new ArrayList<Long>(limit);
+        for (var text : ranked) {
+            if (result.size() == limit) {
+                return result;
+            }
+            if (text.value.startsWith(query)) {
+                result.add(text.id);
+            }
+        }
+        for (var text : ranked) {
+            if (result.size() == limit) {
+                return result;
+            }
+            if (!text.value.startsWith(query) && text.value.contains(query)) {
+                result.add(text.id);
+            }
+        }
+        return result;
+    }
+
+    private void removeLocked(Long id) {
+        var previous = texts.remove(id);
+        if (previous == null) {
+            return;
+        }
+        ranked.remove(previous);
+        for (var i = 0; i < previous.value.length(); i++) {
+            suffixes.remove(new Suffix(previous, i));
+        }
+    }
+
+    private static Suffix probe(String value) {
+        return new Suffix(new Text(Long.MIN_VALUE, value), 0);
+    }
+
+    private static int compare(Suffix left, Suffix right) {
+        var a = left.text.value;
+        var b = right.text.value;
+        var i = left.offset;
+        var j = right.offset;
+        while (i < a.length() && j < b.length()) {
+            var c = Character.compare(a.charAt(i++), b.charAt(j++));
+            if (c != 0) {
+                return c;
+            }
+        }
+        var c = Integer.compare(a.length() - i, b.length() - j);
+        if (c != 0) {
+            return c;
+        }
+        c = Long.compare(left.text.id, right.text.id);
+        return c != 0 ? c : Integer.compare(left.offset, right.offset);
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Text {
+        private final long id;
+        private final String value;
+
+        private Text(long id, String value) {
+            this.id = id;
+            this.value = value;
+        }
+    }
+
+    private static final class Suffix {
+        private final Text text;
+        private final int offset;
+
+        private Suffix(Text text, int offset) {
+            this.text = text;
+            this.offset = offset;
+        }
+    }
+}
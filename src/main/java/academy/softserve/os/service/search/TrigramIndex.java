@@ -0,0 +1,168 @@
+package academy.softserve.os.service.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static java.util.stream.Collectors.toList;
+
+public class TrigramIndex {
+    public static final int GRAM_LENGTH = 3;
+
+    private final Map<Long, String> texts = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public static boolean isSearchable(String query) {
+        return query != null && query.length() >= GRAM_LENGTH;
+    }
+
+    public void put(Long id, String text) {
+        var normalized = normalize(text);
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            texts.put(id, normalized);
+            trigrams(normalized).forEach(gram -> postings.computeIfAbsent(gram, key -> new HashSet<>()).add(id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            texts.clear();
+            postings.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return texts.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Long> search(String query) {
+        if (!isSearchable(query)) {
+            throw new IllegalArgumentException("Query must contain at least " + GRAM_LENGTH + " characters");
+        }
+        var normalized = normalize(query);
+        lock.readLock().lock();
+        try {
+            var candidateSets = new ArrayList<Set<Long>>();
+            for (var gram : trigrams(normalized)) {
+                var ids = postings.get(gram);
+                if (ids == null) {
+                    return List.of();
+                }
+                candidateSets.add(ids);
+            }
+            candidateSets.sort(Comparator.comparingInt(Set::size));
+
+            var matches = new ArrayList<Match>();
+            for (var id : candidateSets.get(0)) {
+                if (candidateSets.stream().allMatch(ids -> ids.contains(id))) {
+                    var text = texts.get(id);
+                    var position = text.indexOf(normalized);
+                    if (position >= 0) {
+                        matches.add(new Match(id, quality(text, normalized, position), text.length()));
+                    }
+                }
+            }
+            return matches.stream()
+                    .sorted(Comparator.comparingInt(Match::getQuality)
+                            .thenComparingInt(Match::getLength)
+                            .thenComparing(Match::getId))
+                    .map(Match::getId)
+                    .collect(toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(Long id) {
+        var previous = texts.remove(id);
+        if (previous == null) {
+            return;
+        }
+        trigrams(previous).forEach(gram -> {
+            var ids = postings.get(gram);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                postings.remove(gram);
+            }
+        });
+    }
+
+    private static int quality(String text, String query, int position) {
+        if (text.length() == query.length()) {
+            return 0;
+        }
+        if (position == 0) {
+            return 1;
+        }
+        if (!Character.isLetterOrDigit(text.charAt(position - 1))) {
+            return 2;
+        }
+        return 3;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> trigrams(String text) {
+        var grams = new LinkedHashSet<String>();
+        for (var i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static final class Match {
+        private final Long id;
+        private final int quality;
+        private final int length;
+
+        private Match(Long id, int quality, int length) {
+            this.id = id;
+            this.quality = quality;
+            this.length = length;
+        }
+
+        Long getId() {
+            return id;
+        }
+
+        int getQuality() {
+            return quality;
+        }
+
+        int getLength() {
+            return length;
+        }
+    }
+}
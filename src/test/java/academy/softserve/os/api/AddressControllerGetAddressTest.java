@@ -1,5 +1,6 @@
 package academy.softserve.os.api;
 
+import academy.softserve.os.api.dto.AddressDTO;
 import academy.softserve.os.mapper.AddressMapper;
 import academy.softserve.os.model.Address;
 import academy.softserve.os.model.UserDetailsImpl;
@@ -15,6 +16,9 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -22,11 +26,13 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -36,7 +42,7 @@ class AddressControllerGetAddressTest {
 
     @MockBean
     private AddressService service;
-    private Address address1, address2;
+    private AddressDTO address1, address2;
 
     @Autowired
     private WebApplicationContext context;
@@ -44,7 +50,7 @@ class AddressControllerGetAddressTest {
     @BeforeEach
     void setUp() {
         mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
-        address1 = Address.builder()
+        address1 = AddressDTO.builder()
                 .id(1L)
                 .city("ХАРЬКОВ")
                 .street("СУМСКАЯ")
@@ -52,7 +58,7 @@ class AddressControllerGetAddressTest {
                 .room("КУХНЯ")
                 .build();
 
-        address2 = Address.builder()
+        address2 = AddressDTO.builder()
                 .id(2L)
                 .city("ЛЬВІВ")
                 .street("АВСТРІЙСКА")
@@ -67,10 +73,11 @@ class AddressControllerGetAddressTest {
 
         var addresses = Arrays.asList(address1, address2);
 
-        when(service.findAddresses()).thenReturn(addresses);
+        when(service.findAddresses(null, 100)).thenReturn(new SliceImpl<>(addresses));
 
         mockMvc.perform(get("/api/address"))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.LINK))
                 .andExpect(jsonPath("$[0].id").value(1L))
                 .andExpect(jsonPath("$[0].city").value("ХАРЬКОВ"))
                 .andExpect(jsonPath("$[0].street").value("СУМСКАЯ"))
@@ -79,11 +86,25 @@ class AddressControllerGetAddressTest {
 
     }
 
+    @WithMockUser(value = "someuser", roles = "WORKER")
+    @Test
+    void givenMoreAddressesThanLimit_getAddress_shouldReturnPageAndNextLink() throws Exception {
+
+        when(service.findAddresses(1L, 1)).thenReturn(new SliceImpl<>(List.of(address2), PageRequest.ofSize(1), true));
+
+        mockMvc.perform(get("/api/address").param("after", "1").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(2L))
+                .andExpect(header().string(HttpHeaders.LINK,
+                        "<http://localhost/api/address?after=2&limit=1>; rel=\"next\""));
+    }
+
     @WithMockUser(value = "someuser", roles = "WORKER")
     @Test
     void givenApiGetAddressWithId_getAddressByIs_shouldReturnJsonAddressAndReturnOkResponse() throws Exception {
 
-        var address1 = Address.builder()
+        var address1 = AddressDTO.builder()
                 .id(1L)
                 .city("ХАРЬКОВ")
                 .street("СУМСКАЯ")
@@ -1,5 +1,6 @@
 package academy.softserve.os.api;
 
+import academy.softserve.os.api.dto.ClientDTO;
 
 import academy.softserve.os.api.dto.command.CreateClientCommandDTO;
 import academy.softserve.os.mapper.ClientMapper;
@@ -28,6 +29,7 @@ import java.util.Optional;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -115,9 +117,7 @@ class ClientControllerTest {
     @Test
     void givenClientId_findClientById_shouldReturnClient() throws Exception {
         //given
-        var client = Client.builder()
-                .id(1L)
-                .name("Pol").build();
+        var client = new ClientDTO(1L, "Pol");
         //when
         when(clientService.findClientById(any(Long.class))).thenReturn(Optional.of(client));
 
@@ -144,16 +144,28 @@ class ClientControllerTest {
     void givenClientName_findAllClientsByName_shouldReturnAllClientsMatchesByName() throws Exception {
         //given
         var clients = List.of(
-                new Client(),
-                new Client(),
-                new Client()
+                new ClientDTO(),
+                new ClientDTO(),
+                new ClientDTO()
         );
         //when
-        when(clientService.findAllClientsByName(anyString())).thenReturn(clients);
+        when(clientService.findAllClientsByName(anyString(), eq(20))).thenReturn(clients);
 
         mockMvc.perform(get("/api/clients?name=Pol"))
                 //then
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()", is(3)));
     }
+
+    @WithMockUser(value = "someuser", roles = "WORKER")
+    @Test
+    void givenClientNameAndLimit_findAllClientsByName_shouldPassClampedLimit() throws Exception {
+        //when
+        when(clientService.findAllClientsByName("Pol", 100)).thenReturn(List.of(new ClientDTO()));
+
+        mockMvc.perform(get("/api/clients?name=Pol&limit=1000"))
+                //then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(1)));
+    }
 }
@@ -0,0 +1,62 @@
+package academy.softserve.os.api;
+
+import academy.softserve.os.api.dto.AddressDTO;
+import academy.softserve.os.api.dto.ClientDTO;
+import academy.softserve.os.api.dto.EquipmentDTO;
+import academy.softserve.os.service.EquipmentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+class EquipmentControllerExportEquipmentTest {
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EquipmentService service;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    }
+
+    @WithMockUser(value = "someuser", roles = "WORKER")
+    @Test
+    void givenStoredEquipment_exportEquipment_shouldWriteOneJsonObjectPerLine() throws Exception {
+        var client = new ClientDTO(1L, "Client");
+        var address = AddressDTO.builder().id(2L).city("CITY").street("STREET").house("1").build();
+        doAnswer(invocation -> {
+            Consumer<EquipmentDTO> consumer = invocation.getArgument(0);
+            consumer.accept(EquipmentDTO.builder().id(1L).description("Condition").client(client).address(address).build());
+            consumer.accept(EquipmentDTO.builder().id(2L).description("Watercooler").client(client).address(address).build());
+            return null;
+        }).when(service).exportEquipment(any());
+
+        mockMvc.perform(get("/api/equipment/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson;charset=UTF-8"))
+                .andExpect(content().string(
+                        "{\"id\":1,\"description\":\"Condition\",\"client\":{\"id\":1,\"name\":\"Client\"},"
+                                + "\"address\":{\"id\":2,\"city\":\"CITY\",\"street\":\"STREET\",\"house\":\"1\",\"room\":null}}\n"
+                                + "{\"id\":2,\"description\":\"Watercooler\",\"client\":{\"id\":1,\"name\":\"Client\"},"
+                                + "\"address\":{\"id\":2,\"city\":\"CITY\",\"street\":\"STREET\",\"house\":\"1\",\"room\":null}}\n"));
+    }
+}
@@ -1,10 +1,13 @@
 package academy.softserve.os.api;
 
 import academy.softserve.os.api.dto.command.CreateJobCommandDTO;
+import academy.softserve.os.api.dto.command.CreateJobsCommandDTO;
 import academy.softserve.os.mapper.JobMapper;
 import academy.softserve.os.model.Job;
 import academy.softserve.os.model.Price;
+import academy.softserve.os.api.dto.PriceDTO;
 import academy.softserve.os.service.JobService;
+import academy.softserve.os.service.PriceService;
 import academy.softserve.os.service.command.CreateJobCommand;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,10 +21,16 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -34,6 +43,9 @@ class JobControllerTest {
     @MockBean
     private JobService jobService;
 
+    @MockBean
+    private PriceService priceService;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Autowired
@@ -81,4 +93,121 @@ class JobControllerTest {
                 .andExpect(jsonPath("$.id").value(1L))
                 .andExpect(jsonPath("$.description").value("test job"));
     }
-}
\ No newline at end of file
+
+    @WithMockUser(value = "someuser", roles = "ADMIN")
+    @Test
+    void givenCreateJobCommandDTOs_createJobs_shouldReturnCreatedJobs() throws Exception {
+        //given
+        var commandDto = new CreateJobsCommandDTO(List.of(
+                CreateJobCommandDTO.builder().description("first").clientPrice(BigDecimal.TEN).workerPrice(BigDecimal.ONE).build(),
+                CreateJobCommandDTO.builder().description("second").clientPrice(BigDecimal.TEN).workerPrice(BigDecimal.ONE).build()));
+
+        //when
+        when(jobService.createJobs(anyList())).thenReturn(List.of(
+                Job.builder().id(1L).description("first").prices(List.of()).build(),
+                Job.builder().id(2L).description("second").prices(List.of()).build()));
+
+        //then
+        mockMvc.perform(post("/api/jobs/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(commandDto)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].id").value(2L))
+                .andExpect(jsonPath("$[1].description").value("second"));
+    }
+
+    @WithMockUser(value = "someuser", roles = "WORKER")
+    @Test
+    void givenWorkerRole_createJobs_shouldReturnForbidden() throws Exception {
+        mockMvc.perform(post("/api/jobs/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"jobs\":[{\"description\":\"first\"}]}"))
+                .andExpect(status().isForbidden());
+    }
+
+    @WithMockUser(value = "someuser", roles = "ADMIN")
+    @Test
+    void givenEmptyJobList_createJobs_shouldReturnBadRequest() throws Exception {
+        //given
+        var commandDto = new CreateJobsCommandDTO(List.of());
+
+        //when
+        //then
+        mockMvc.perform(post("/api/jobs/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(commandDto)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @WithMockUser(value = "someuser", roles = "ADMIN")
+    @Test
+    void givenMoreThan500Jobs_createJobs_shouldReturnBadRequest() throws Exception {
+        //given
+        var jobs = new ArrayList<CreateJobCommandDTO>();
+        for (var i = 0; i < 501; i++) {
+            jobs.add(CreateJobCommandDTO.builder().description("job " + i).build());
+        }
+        var commandDto = new CreateJobsCommandDTO(jobs);
+
+        //when
+        //then
+        mockMvc.perform(post("/api/jobs/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(commandDto)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @WithMockUser(value = "someuser", roles = "ADMIN")
+    @Test
+    void givenInvalidJob_createJobs_shouldReturnBadRequest() throws Exception {
+        //given
+        var commandDto = new CreateJobsCommandDTO(List.of(
+                CreateJobCommandDTO.builder().description("x".repeat(101)).build()));
+
+        //when
+        //then
+        mockMvc.perform(post("/api/jobs/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(commandDto)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @WithMockUser(value = "someuser", roles = "ADMIN")
+    @Test
+    void givenJobIdAndDate_getPriceAt_shouldReturnEffectivePrice() throws Exception {
+        //given
+        var date = LocalDate.parse("2022-07-01");
+        var price = new PriceDTO(5L, new BigDecimal("50.00"), new BigDecimal("40.00"), LocalDate.parse("2022-06-01"));
+
+        //when
+        when(priceService.findPriceAt(1L, date)).thenReturn(Optional.of(price));
+
+        //then
+        mockMvc.perform(get("/api/jobs/1/price").param("at", "2022-07-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(5L))
+                .andExpect(jsonPath("$.clientPrice").value(50.00))
+                .andExpect(jsonPath("$.dateSince[0]").value(2022))
+                .andExpect(jsonPath("$.dateSince[1]").value(6));
+    }
+
+    @WithMockUser(value = "someuser", roles = "ADMIN")
+    @Test
+    void givenNoPriceAtDate_getPriceAt_shouldReturnNotFound() throws Exception {
+        //given
+        //when
+        when(priceService.findPriceAt(eq(1L), any(LocalDate.class))).thenReturn(Optional.empty());
+
+        //then
+        mockMvc.perform(get("/api/jobs/1/price"))
+                .andExpect(status().isNotFound());
+    }
+
+    @WithMockUser(value = "someuser", roles = "WORKER")
+    @Test
+    void givenWorkerRole_getPriceAt_shouldReturnForbidden() throws Exception {
+        mockMvc.perform(get("/api/jobs/1/price"))
+                .andExpect(status().isForbidden());
+    }
+}
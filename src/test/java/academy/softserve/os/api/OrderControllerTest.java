@@ -1,9 +1,12 @@
 package academy.softserve.os.api;
 
+import academy.softserve.os.api.dto.OrderCostDTO;
+import academy.softserve.os.api.dto.OrderDTO;
 import academy.softserve.os.api.dto.command.CreateOrderCommandDTO;
 import academy.softserve.os.exception.CreateOrderException;
 import academy.softserve.os.model.Client;
 import academy.softserve.os.model.Order;
+import academy.softserve.os.repository.OrderFilter;
 import academy.softserve.os.service.OrderService;
 import academy.softserve.os.service.command.CreateOrderCommand;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -13,18 +16,30 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -143,4 +158,80 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.message").value("Validation failed!"))
                 .andExpect(jsonPath("$.details[0]").value("Description is too long"));
     }
+
+    @WithMockUser(value = "someuser", roles = "ADMIN")
+    @Test
+    void givenOrderId_getOrderCost_shouldReturnTotals() throws Exception {
+        //given
+        var cost = OrderCostDTO.builder()
+                .orderId(1L)
+                .clientTotal(new BigDecimal("150.00"))
+                .workerTotal(new BigDecimal("90.00"))
+                .workerTotals(Map.of(3L, new BigDecimal("90.00")))
+                .taskCount(2)
+                .build();
+
+        //when
+        when(orderService.findOrderCost(1L)).thenReturn(Optional.of(cost));
+
+        //then
+        mockMvc.perform(get("/api/order/1/cost"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.clientTotal").value(150.00))
+                .andExpect(jsonPath("$.workerTotals['3']").value(90.00))
+                .andExpect(jsonPath("$.taskCount").value(2));
+    }
+
+    @WithMockUser(value = "someuser", roles = "ADMIN")
+    @Test
+    void givenUnknownOrderId_getOrderCost_shouldReturnNotFound() throws Exception {
+        //when
+        when(orderService.findOrderCost(1L)).thenReturn(Optional.empty());
+
+        //then
+        mockMvc.perform(get("/api/order/1/cost"))
+                .andExpect(status().isNotFound());
+    }
+
+    @WithMockUser(value = "someuser", roles = "ADMIN")
+    @Test
+    void givenFilters_getOrders_shouldReturnPageWithNextLink() throws Exception {
+        //given
+        var placed = LocalDateTime.parse("2022-06-01T10:00:00");
+        var expectedFilter = OrderFilter.builder()
+                .clientId(1L)
+                .phase(1)
+                .placedFrom(LocalDateTime.parse("2022-06-01T00:00:00"))
+                .placedBefore(LocalDateTime.parse("2022-07-01T00:00:00"))
+                .build();
+        var orders = List.of(new OrderDTO(5L, 1L, placed, null, 1, "first"));
+
+        //when
+        when(orderService.findOrders(eq(expectedFilter), eq(1)))
+                .thenReturn(new SliceImpl<>(orders, PageRequest.ofSize(1), true));
+
+        //then
+        mockMvc.perform(get("/api/order?clientId=1&phase=1&placedFrom=2022-06-01&placedTo=2022-06-30&limit=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(5))
+                .andExpect(header().string("Link",
+                        "<http://localhost/api/order?clientId=1&phase=1&placedFrom=2022-06-01&placedTo=2022-06-30"
+                                + "&afterPlacementDate=2022-06-01T10:00&afterId=5&limit=1>; rel=\"next\""));
+    }
+
+    @WithMockUser(value = "someuser", roles = "ADMIN")
+    @Test
+    void givenHalfOfCursor_getOrders_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/order").param("afterId", "5"))
+                .andExpect(status().isBadRequest());
+
+        verify(orderService, never()).findOrders(any(), anyInt());
+    }
+
+    @WithMockUser(value = "someuser", roles = "WORKER")
+    @Test
+    void givenWorkerRole_getOrders_shouldReturn403() throws Exception {
+        mockMvc.perform(get("/api/order"))
+                .andExpect(status().isForbidden());
+    }
 }
@@ -0,0 +1,78 @@
+package academy.softserve.os.api;
+
+import academy.softserve.os.api.dto.PayrollLineDTO;
+import academy.softserve.os.service.payroll.PayrollService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+class PayrollControllerTest {
+
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PayrollService payrollService;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @BeforeEach
+    void setup() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    }
+
+    @WithMockUser(roles = "ADMIN")
+    @Test
+    void givenPeriod_exportPayroll_shouldStreamCsv() throws Exception {
+        //given
+        var from = LocalDate.parse("2022-01-01");
+        var to = LocalDate.parse("2022-01-31");
+        when(payrollService.exportPayroll(from, to)).thenReturn(List.of(PayrollLineDTO.builder()
+                .workerId(1L)
+                .firstName("John")
+                .lastName("Smith, Jr.")
+                .taskCount(2)
+                .earnings(new BigDecimal("12.50"))
+                .build()));
+
+        //when
+        //then
+        mockMvc.perform(get("/api/admin/payroll").param("from", "2022-01-01").param("to", "2022-01-31"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+                .andExpect(content().string("worker_id,first_name,last_name,task_count,unpriced_task_count,earnings\r\n"
+                        + "1,John,\"Smith, Jr.\",2,0,12.50\r\n"));
+    }
+
+    @WithMockUser(roles = "ADMIN")
+    @Test
+    void givenFromAfterTo_exportPayroll_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/admin/payroll").param("from", "2022-02-01").param("to", "2022-01-31"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @WithMockUser(roles = "WORKER")
+    @Test
+    void givenWorkerRole_exportPayroll_shouldReturnForbidden() throws Exception {
+        mockMvc.perform(get("/api/admin/payroll").param("from", "2022-01-01").param("to", "2022-01-31"))
+                .andExpect(status().isForbidden());
+    }
+}
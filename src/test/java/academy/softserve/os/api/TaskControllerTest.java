@@ -1,6 +1,7 @@
 package academy.softserve.os.api;
 
 import academy.softserve.os.api.dto.command.CreateTaskCommandDTO;
+import academy.softserve.os.api.dto.command.CreateTasksCommandDTO;
 import academy.softserve.os.model.Job;
 import academy.softserve.os.model.Order;
 import academy.softserve.os.model.Task;
@@ -23,9 +24,11 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -178,5 +181,57 @@ public class TaskControllerTest {
                 .andExpect(jsonPath("message").value("Validation failed!"))
                 .andExpect(jsonPath("$.details[0]").value(message));
     }
-}
 
+    @WithMockUser(value = "someuser", roles = "WORKER")
+    @Test
+    void givenCreateTasksCommandDTO_createTasks_shouldReturnTaskDTOs() throws Exception {
+        var createTaskCommandDTO = CreateTaskCommandDTO
+                .builder()
+                .partFactor(0.25)
+                .jobId(1L)
+                .workerId(1L)
+                .orderId(1L)
+                .build();
+        var createTasksCommandDTO = new CreateTasksCommandDTO(List.of(createTaskCommandDTO, createTaskCommandDTO));
+
+        var job = new Job();
+        job.setId(1L);
+        var worker = new Worker();
+        worker.setId(1L);
+        var order = new Order();
+        order.setId(1L);
+        var task = Task.builder()
+                .job(job)
+                .worker(worker)
+                .order(order)
+                .partFactor(0.25)
+                .build();
+        when(taskService.createTasks(anyList())).thenReturn(List.of(task, task));
+
+        mockMvc.perform(post("/api/task/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createTasksCommandDTO)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].orderId").value("1"))
+                .andExpect(jsonPath("$[1].partFactor").value("0.25"));
+    }
+
+    @WithMockUser(value = "someuser", roles = "WORKER")
+    @Test
+    void givenInvalidTaskInBatch_createTasks_shouldThrowException() throws Exception {
+        var createTasksCommandDTO = new CreateTasksCommandDTO(List.of(CreateTaskCommandDTO
+                .builder()
+                .partFactor(0.25)
+                .workerId(1L)
+                .orderId(1L)
+                .build()));
+
+        mockMvc.perform(post("/api/task/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createTasksCommandDTO)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("message").value("Validation failed!"))
+                .andExpect(jsonPath("$.details[0]").value("You should specify job id"));
+    }
+}
@@ -0,0 +1,53 @@
+package academy.softserve.os.api.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordEncoderConfigurationTest {
+
+    private final PasswordEncoderConfiguration configuration = new PasswordEncoderConfiguration();
+
+    @Test
+    void givenUnprefixedBCryptHash_matches_shouldAcceptAndRequestUpgrade() {
+        //given
+        var passwordEncoder = configuration.passwordEncoder("bcrypt", 4);
+        var legacyHash = new BCryptPasswordEncoder(4).encode("12345678");
+
+        //when
+        var matches = passwordEncoder.matches("12345678", legacyHash);
+
+        //then
+        assertThat(matches).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(legacyHash)).isTrue();
+    }
+
+    @Test
+    void givenHashWithLowerCost_upgradeEncoding_shouldReturnTrue() {
+        //given
+        var weak = configuration.passwordEncoder("bcrypt", 4).encode("12345678");
+        var passwordEncoder = configuration.passwordEncoder("bcrypt", 5);
+
+        //when
+        //then
+        assertThat(passwordEncoder.matches("12345678", weak)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(weak)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(passwordEncoder.encode("12345678"))).isFalse();
+    }
+
+    @Test
+    void givenBCryptHashAndPbkdf2Configured_upgradeEncoding_shouldReturnTrue() {
+        //given
+        var bcryptHash = configuration.passwordEncoder("bcrypt", 4).encode("12345678");
+        var passwordEncoder = configuration.passwordEncoder("pbkdf2", 4);
+
+        //when
+        var hash = passwordEncoder.encode("12345678");
+
+        //then
+        assertThat(hash).startsWith("{pbkdf2}");
+        assertThat(passwordEncoder.matches("12345678", bcryptHash)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(bcryptHash)).isTrue();
+    }
+}
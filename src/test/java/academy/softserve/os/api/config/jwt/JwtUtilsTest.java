@@ -0,0 +1,141 @@
+package academy.softserve.os.api.config.jwt;
+
+import academy.softserve.os.model.UserDetailsImpl;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtUtilsTest {
+    private static final String SECRET =
+            "MegaLargeSigningSecretKeyForDemoApplicationMegaLargeSigningSecretKeyForDemoApplication";
+
+    @Test
+    void givenStatelessMode_getUserDetailsFromClaims_shouldRestorePrincipalFromClaims() {
+        var jwtUtils = new JwtUtils(SECRET, 60_000, true, 60_000, 43_200_000, 100);
+        var principal = new UserDetailsImpl(3L, 7L, "worker", "hash",
+                List.of(new SimpleGrantedAuthority("ROLE_WORKER")));
+
+        var jwt = jwtUtils.generateJwtToken(principal);
+        var result = jwtUtils.getUserDetailsFromClaims(jwtUtils.parseClaims(jwt).orElseThrow());
+
+        assertThat(result.getId()).isEqualTo(3L);
+        assertThat(result.getWorkerId()).isEqualTo(7L);
+        assertThat(result.getUsername()).isEqualTo("worker");
+        assertThat(result.getPassword()).isNull();
+        assertThat(result.getAuthorities()).extracting("authority").containsExactly("ROLE_WORKER");
+    }
+
+    @Test
+    void givenDefaultMode_getUserDetailsFromClaims_shouldReturnNull() {
+        var jwtUtils = new JwtUtils(SECRET, 60_000, false, 60_000, 43_200_000, 100);
+        var principal = new UserDetailsImpl(1L, "admin", "hash",
+                List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+
+        var jwt = jwtUtils.generateJwtToken(principal);
+
+        assertThat(jwtUtils.getUserNameFromJwtToken(jwt)).isEqualTo("admin");
+        assertThat(jwtUtils.getUserDetailsFromClaims(jwtUtils.parseClaims(jwt).orElseThrow())).isNull();
+    }
+
+    @Test
+    void givenSameToken_parseClaims_shouldReturnCachedClaims() {
+        var jwtUtils = new JwtUtils(SECRET, 60_000, false, 60_000, 43_200_000, 100);
+        var jwt = jwtUtils.generateJwtToken(new UserDetailsImpl(1L, "admin", "hash", List.of()));
+
+        var first = jwtUtils.parseClaims(jwt).orElseThrow();
+        var second = jwtUtils.parseClaims(jwt).orElseThrow();
+
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    void givenCachedToken_parseClaims_shouldNotShareMutableClaims() {
+        var jwtUtils = new JwtUtils(SECRET, 60_000, false, 60_000, 43_200_000, 100);
+        var jwt = jwtUtils.generateJwtToken(new UserDetailsImpl(1L, "admin", "hash", List.of()));
+        jwtUtils.parseClaims(jwt).orElseThrow();
+
+        jwtUtils.parseClaims(jwt).orElseThrow().setSubject("intruder");
+
+        assertThat(jwtUtils.parseClaims(jwt).orElseThrow().getSubject()).isEqualTo("admin");
+    }
+
+    @Test
+    void givenSignedTokenWithoutExpiration_parseClaims_shouldReturnClaims() {
+        var jwtUtils = new JwtUtils(SECRET, 60_000, false, 60_000, 43_200_000, 100);
+        var jwt = Jwts.builder()
+                .setSubject("admin")
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS512)
+                .compact();
+
+        assertThat(jwtUtils.parseClaims(jwt)).map(Claims::getSubject).contains("admin");
+        assertThat(jwtUtils.parseClaims(jwt)).map(Claims::getSubject).contains("admin");
+    }
+
+    @Test
+    void givenTamperedToken_parseClaims_shouldReturnEmpty() {
+        var jwtUtils = new JwtUtils(SECRET, 60_000, false, 60_000, 43_200_000, 100);
+        var jwt = jwtUtils.generateJwtToken(new UserDetailsImpl(1L, "admin", "hash", List.of()));
+
+        var tampered = jwt.substring(0, jwt.length() - 2) + (jwt.endsWith("AA") ? "BB" : "AA");
+
+        assertThat(jwtUtils.parseClaims(tampered)).isEmpty();
+    }
+
+    @Test
+    void givenExpiredToken_validateJwtToken_shouldReturnFalse() {
+        var jwtUtils = new JwtUtils(SECRET, -1_000, false, 60_000, 43_200_000, 100);
+        var jwt = jwtUtils.generateJwtToken(new UserDetailsImpl(1L, "admin", "hash", List.of()));
+
+        assertThat(jwtUtils.validateJwtToken(jwt)).isFalse();
+    }
+
+    @Test
+    void givenStatelessToken_refreshJwtToken_shouldCarryOriginalAuthTime() {
+        var jwtUtils = new JwtUtils(SECRET, 60_000, true, 60_000, 43_200_000, 100);
+        var principal = new UserDetailsImpl(1L, "admin", "hash", List.of());
+        var claims = jwtUtils.parseClaims(jwtUtils.generateJwtToken(principal)).orElseThrow();
+
+        var refreshed = jwtUtils.refreshJwtToken(claims, principal).orElseThrow();
+
+        assertThat(jwtUtils.parseClaims(refreshed).orElseThrow().get("authTime", Long.class))
+                .isEqualTo(claims.get("authTime", Long.class));
+    }
+
+    @Test
+    void givenSessionOlderThanMaxSession_refreshJwtToken_shouldReturnEmpty() {
+        var jwtUtils = new JwtUtils(SECRET, 60_000, true, 60_000, 43_200_000, 100);
+        var principal = new UserDetailsImpl(1L, "admin", "hash", List.of());
+        var claims = jwtUtils.parseClaims(jwtUtils.generateJwtToken(principal)).orElseThrow();
+        var expired = Jwts.claims(claims);
+        expired.put("authTime", System.currentTimeMillis() - 43_200_001L);
+
+        assertThat(jwtUtils.refreshJwtToken(expired, principal)).isEmpty();
+    }
+
+    @Test
+    void givenDefaultModeToken_refreshJwtToken_shouldReturnEmpty() {
+        var jwtUtils = new JwtUtils(SECRET, 60_000, false, 60_000, 43_200_000, 100);
+        var principal = new UserDetailsImpl(1L, "admin", "hash", List.of());
+        var claims = jwtUtils.parseClaims(jwtUtils.generateJwtToken(principal)).orElseThrow();
+
+        assertThat(jwtUtils.refreshJwtToken(claims, principal)).isEmpty();
+    }
+
+    @Test
+    void givenShortMaxSession_generateJwtToken_shouldExpireAtSessionEnd() {
+        var jwtUtils = new JwtUtils(SECRET, 60_000, true, 60_000, 10_000, 100);
+        var principal = new UserDetailsImpl(1L, "admin", "hash", List.of());
+
+        var claims = jwtUtils.parseClaims(jwtUtils.generateJwtToken(principal)).orElseThrow();
+
+        assertThat(claims.getExpiration().getTime() - claims.get("authTime", Long.class)).isLessThanOrEqualTo(10_000L);
+    }
+}
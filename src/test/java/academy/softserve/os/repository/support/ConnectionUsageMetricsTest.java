@@ -0,0 +1,48 @@
+package academy.softserve.os.repository.support;
+
+import academy.softserve.os.service.AddressService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ConnectionUsageMetricsTest {
+
+    @Autowired
+    private ConnectionUsageMetrics connectionUsageMetrics;
+
+    @Autowired
+    private AddressService addressService;
+
+    @Test
+    void givenReadThroughService_snapshot_shouldCountOneReturnedConnection() {
+        //given
+        connectionUsageMetrics.reset();
+
+        //when
+        addressService.findAddresses(null, 10);
+        var snapshot = connectionUsageMetrics.snapshot();
+
+        //then
+        assertThat(snapshot.getUsageCount()).isEqualTo(1);
+        assertThat(snapshot.getActiveConnections()).isZero();
+        assertThat(snapshot.getMaxUsageMillis()).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    void givenReset_snapshot_shouldStartFromZero() {
+        //given
+        addressService.getAddressById(1L);
+
+        //when
+        connectionUsageMetrics.reset();
+        var snapshot = connectionUsageMetrics.snapshot();
+
+        //then
+        assertThat(snapshot.getUsageCount()).isZero();
+        assertThat(snapshot.getTotalUsageMillis()).isZero();
+        assertThat(snapshot.getMaxUsageMillis()).isZero();
+    }
+}
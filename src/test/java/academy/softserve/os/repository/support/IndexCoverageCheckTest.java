@@ -0,0 +1,78 @@
+package academy.softserve.os.repository.support;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class IndexCoverageCheckTest {
+
+    @Autowired
+    private IndexCoverageCheck indexCoverageCheck;
+
+    @Test
+    void givenMigratedSchema_findUnindexedQueryMethods_shouldFindNothing() {
+        //when
+        var findings = indexCoverageCheck.findUnindexedQueryMethods();
+
+        //then
+        assertThat(findings).isEmpty();
+    }
+
+    @Test
+    void givenCustomRepositoryMethods_findUncheckedQueryMethods_shouldListThem() {
+        //when
+        var unchecked = indexCoverageCheck.findUncheckedQueryMethods();
+
+        //then
+        assertThat(unchecked).contains("OrderRepository.findDTOs", "AddressRepository.upsert");
+        assertThat(unchecked).doesNotContain("TaskRepository.streamPayrollViews", "OrderRepository.findByIdForUpdate");
+    }
+
+    @Test
+    void givenJpqlWithJoinsAndRangePredicates_jpqlPredicateProperties_shouldReturnRootPaths() {
+        //when
+        var properties = IndexCoverageCheck.jpqlPredicateProperties(
+                "select w.id as workerId from Task t join t.worker w left join t.job j "
+                        + "where t.timeCreate >= :from and t.timeCreate < :to and w.lastName = :name order by w.id",
+                "Task");
+
+        //then
+        assertThat(properties).containsExactly(List.of("timeCreate", "timeCreate"));
+    }
+
+    @Test
+    void givenTopLevelOr_jpqlPredicateProperties_shouldReturnOneBranchPerDisjunct() {
+        //when
+        var properties = IndexCoverageCheck.jpqlPredicateProperties(
+                "select o from Order o where o.client.id = :clientId or (o.phase = :phase or o.id > :id)",
+                "Order");
+
+        //then
+        assertThat(properties).containsExactly(List.of("client"), List.of("phase", "id"));
+    }
+
+    @Test
+    void givenFunctionAndNullChecks_jpqlPredicateProperties_shouldIgnoreThem() {
+        //when
+        var properties = IndexCoverageCheck.jpqlPredicateProperties(
+                "select e from Equipment e where lower(e.description) like :pattern and e.address is not null",
+                "Equipment");
+
+        //then
+        assertThat(properties).containsExactly(List.of());
+    }
+
+    @Test
+    void givenOtherRootEntity_jpqlPredicateProperties_shouldReturnNull() {
+        //when
+        var properties = IndexCoverageCheck.jpqlPredicateProperties("select c from Client c where c.name = :name", "Task");
+
+        //then
+        assertThat(properties).isNull();
+    }
+}
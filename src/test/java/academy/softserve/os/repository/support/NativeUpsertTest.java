@@ -0,0 +1,83 @@
+package academy.softserve.os.repository.support;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jdbc.ReturningWork;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.ConcurrencyFailureException;
+
+import javax.persistence.EntityManager;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NativeUpsertTest {
+    private final NativeUpsert upsert = new NativeUpsert("insert h2", "insert postgresql", "select id");
+
+    private EntityManager entityManager;
+    private PreparedStatement statement;
+    private ResultSet resultSet;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void init() throws Exception {
+        var jdbcServices = mock(JdbcServices.class);
+        when(jdbcServices.getDialect()).thenReturn(new H2Dialect());
+        var sessionFactoryImplementor = mock(SessionFactoryImplementor.class);
+        when(sessionFactoryImplementor.getJdbcServices()).thenReturn(jdbcServices);
+        var sessionFactory = mock(SessionFactory.class);
+        when(sessionFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactoryImplementor);
+
+        resultSet = mock(ResultSet.class);
+        statement = mock(PreparedStatement.class);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        var connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+
+        var session = mock(Session.class);
+        when(session.getSessionFactory()).thenReturn(sessionFactory);
+        when(session.doReturningWork(any())).thenAnswer(invocation ->
+                ((ReturningWork<Long>) invocation.getArgument(0)).execute(connection));
+        entityManager = mock(EntityManager.class);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+    }
+
+    @Test
+    void givenRowVisibleAfterRetry_execute_shouldReturnItsId() throws Exception {
+        //given
+        when(resultSet.next()).thenReturn(false, false, true);
+        when(resultSet.getLong(1)).thenReturn(7L);
+
+        //when
+        var id = upsert.execute(entityManager, "key");
+
+        //then
+        assertThat(id).isEqualTo(7L);
+        verify(statement, times(1)).executeUpdate();
+    }
+
+    @Test
+    void givenRowNeverVisible_execute_shouldThrowConcurrencyFailure() throws Exception {
+        //given
+        when(resultSet.next()).thenReturn(false);
+
+        //when
+        //then
+        assertThatThrownBy(() -> upsert.execute(entityManager, "key"))
+                .isInstanceOf(ConcurrencyFailureException.class);
+        verify(statement, times(3)).executeUpdate();
+    }
+}
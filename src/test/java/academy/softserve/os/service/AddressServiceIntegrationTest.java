@@ -0,0 +1,53 @@
+package academy.softserve.os.service;
+
+import academy.softserve.os.repository.AddressRepository;
+import academy.softserve.os.service.command.CreateAddressCommand;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class AddressServiceIntegrationTest {
+
+    @Autowired
+    private AddressService addressService;
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Test
+    void givenConcurrentCreatesOfSameAddress_createAddress_shouldInsertOneRow() throws Exception {
+        //given
+        var command = CreateAddressCommand.builder()
+                .city(" Київ")
+                .street("Хрещатик  вул.")
+                .house("1")
+                .build();
+        var before = addressRepository.count();
+        var executor = Executors.newFixedThreadPool(8);
+
+        //when
+        List<Future<Long>> futures;
+        try {
+            futures = executor.invokeAll(Collections.nCopies(32, () -> addressService.createAddress(command).getId()));
+        } finally {
+            executor.shutdown();
+        }
+        var ids = new HashSet<Long>();
+        for (var future : futures) {
+            ids.add(future.get());
+        }
+
+        //then
+        assertEquals(1, ids.size());
+        assertEquals(before + 1, addressRepository.count());
+        assertEquals("", addressRepository.findDTOById(ids.iterator().next()).orElseThrow().getRoom());
+    }
+}
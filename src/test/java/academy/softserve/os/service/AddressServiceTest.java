@@ -3,20 +3,19 @@ package academy.softserve.os.service;
 import academy.softserve.os.exception.CreateAddressException;
 import academy.softserve.os.model.Address;
 import academy.softserve.os.repository.AddressRepository;
+import academy.softserve.os.service.address.AddressKeyCache;
 import academy.softserve.os.service.command.CreateAddressCommand;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.AdditionalAnswers;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 
-import java.util.Optional;
-
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
-import static org.mockito.Mockito.any;
 
 @SpringBootTest
 @AutoConfigureMockMvc(addFilters = false)
@@ -24,13 +23,11 @@ class AddressServiceTest {
     private AddressRepository repository;
     private AddressService service;
     private CreateAddressCommand command;
-    private Address address;
 
     @BeforeEach
     void setUp() {
         repository = mock(AddressRepository.class);
-        service = new AddressService(repository);
-        address = mock(Address.class);
+        service = new AddressService(repository, new AddressKeyCache(repository));
 
         command = CreateAddressCommand.builder()
                 .city(" Харків")
@@ -51,16 +48,11 @@ class AddressServiceTest {
                 .room("ВІТАЛЬНЯ")
                 .build();
 
-        when(repository.save(any(Address.class))).then(AdditionalAnswers.returnsFirstArg());
-        when(repository.findByCityAndStreetAndHouseAndRoom(
-                address.getCity(),
-                address.getStreet(),
-                address.getHouse(),
-                address.getRoom()
-        )).thenReturn(Optional.empty());
+        when(repository.upsert("ХАРКІВ", "СУМСКА ВУЛ.", "БУД.23", "ВІТАЛЬНЯ")).thenReturn(1L);
 
         var address1 = service.createAddress(command);
 
+        assertEquals(address1.getId(), addressOut.getId());
         assertEquals(address1.getCity(), addressOut.getCity());
         assertEquals(address1.getStreet(), addressOut.getStreet());
         assertEquals(address1.getHouse(), addressOut.getHouse());
@@ -79,13 +71,12 @@ class AddressServiceTest {
                 .build();
 
 
-        when(repository.save(any(Address.class))).thenReturn(address1);
-        when(repository.findByCityAndStreetAndHouseAndRoom(
+        when(repository.upsert(
                 address1.getCity(),
                 address1.getStreet(),
                 address1.getHouse(),
                 address1.getRoom()
-        )).thenReturn(Optional.of(address1));
+        )).thenReturn(address1.getId());
 
         var addressOut = service.createAddress(command);
 
@@ -139,13 +130,7 @@ class AddressServiceTest {
                 .room("")
                 .build();
 
-        when(repository.save(any(Address.class))).then(AdditionalAnswers.returnsFirstArg());
-        when(repository.findByCityAndStreetAndHouseAndRoom(
-                address.getCity(),
-                address.getStreet(),
-                address.getHouse(),
-                address.getRoom()
-        )).thenReturn(Optional.empty());
+        when(repository.upsert("ХАРКІВ", "СУМСКА ВУЛ.", "БУД.23", "")).thenReturn(1L);
 
         var address1 = service.createAddress(command);
 
@@ -154,4 +139,25 @@ class AddressServiceTest {
         assertEquals(address1.getHouse(), addressOut.getHouse());
         assertEquals(address1.getRoom(), addressOut.getRoom());
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenRepeatedCreateAddressCommand_createAddress_shouldNotQueryRepositoryAgain() {
+        //given
+        when(repository.upsert("ХАРКІВ", "СУМСКА ВУЛ.", "БУД.23", "ВІТАЛЬНЯ")).thenReturn(7L);
+        var repeated = CreateAddressCommand.builder()
+                .city("харків ")
+                .street(" сумска вул.")
+                .house("Буд.23")
+                .room("ВІТАЛЬНЯ")
+                .build();
+
+        //when
+        service.createAddress(command);
+        var addressOut = service.createAddress(repeated);
+
+        //then
+        assertEquals(7L, addressOut.getId());
+        assertEquals("СУМСКА ВУЛ.", addressOut.getStreet());
+        verify(repository, times(1)).upsert("ХАРКІВ", "СУМСКА ВУЛ.", "БУД.23", "ВІТАЛЬНЯ");
+    }
+}
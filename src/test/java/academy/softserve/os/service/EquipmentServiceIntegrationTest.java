@@ -1,11 +1,13 @@
 package academy.softserve.os.service;
 
+import academy.softserve.os.api.dto.EquipmentDTO;
 import academy.softserve.os.model.Address;
 import academy.softserve.os.model.Client;
 import academy.softserve.os.repository.AddressRepository;
 import academy.softserve.os.repository.ClientRepository;
 import academy.softserve.os.repository.EquipmentRepository;
 import academy.softserve.os.service.command.CreateEquipmentCommand;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,12 +18,20 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
 
+import javax.persistence.EntityManagerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
-@SpringBootTest
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
 class EquipmentServiceIntegrationTest {
 
@@ -33,6 +43,8 @@ class EquipmentServiceIntegrationTest {
     private AddressRepository addressRepository;
     @Autowired
     private EquipmentRepository equipmentRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     static Address address;
     static Client client;
@@ -82,10 +94,83 @@ class EquipmentServiceIntegrationTest {
         assertEquals(sizeList, equipments.size());
     }
 
+    @Test
+    void givenConcurrentCreatesOfSameEquipment_createEquipment_shouldReturnOneId() throws Exception {
+        //given
+        var command = CreateEquipmentCommand.builder()
+                .description("Boiler")
+                .clientId(client.getId())
+                .addressId(address.getId())
+                .build();
+        var executor = Executors.newFixedThreadPool(8);
+
+        //when
+        List<Future<Long>> futures;
+        try {
+            futures = executor.invokeAll(Collections.nCopies(32,
+                    () -> equipmentService.createEquipment(command).getId()));
+        } finally {
+            executor.shutdown();
+        }
+        var ids = new HashSet<Long>();
+        for (var future : futures) {
+            ids.add(future.get());
+        }
+
+        //then
+        assertEquals(1, ids.size());
+        assertEquals(4, equipmentRepository.count());
+    }
+
     @Test
     void givenEmptyEquipmentDescription_findEquipmentByDescription_shouldReturnListAllEquipments() {
         var equipments = equipmentService.findEquipmentByDescription("");
         assertEquals(3, equipments.size());
     }
 
+    @Test
+    void givenStoredEquipment_exportEquipment_shouldPassAllEquipmentInIdOrder() {
+        var exported = new ArrayList<EquipmentDTO>();
+
+        equipmentService.exportEquipment(exported::add);
+
+        assertEquals(descriptionEquipment, exported.stream().map(EquipmentDTO::getDescription).collect(Collectors.toList()));
+        assertEquals("Client", exported.get(0).getClient().getName());
+        assertEquals("City", exported.get(0).getAddress().getCity());
+    }
+
+    @Test
+    void givenCreatedEquipment_findEquipmentByDescription_shouldReturnIndexedEquipmentRankedByMatchQuality() {
+        var created = equipmentService.createEquipment(CreateEquipmentCommand.builder()
+                .description("Air condition unit")
+                .clientId(clientRepository.findAll().get(0).getId())
+                .addressId(addressRepository.findAll().get(0).getId())
+                .build());
+
+        var equipments = equipmentService.findEquipmentByDescription("CONDITION");
+
+        assertEquals(List.of("Condition1", "Condition2", "Air condition unit"),
+                equipments.stream().map(EquipmentDTO::getDescription).collect(Collectors.toList()));
+        assertEquals(created.getId(), equipments.get(2).getId());
+    }
+
+    @Test
+    void givenTooShortDescription_findEquipmentByDescription_shouldFallBackToContainingSearch() {
+        var equipments = equipmentService.findEquipmentByDescription("co");
+
+        assertEquals(3, equipments.size());
+    }
+
+    @Test
+    void givenStoredEquipment_findEquipmentByDescription_shouldFetchClientAndAddressInOneQuery() {
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        var equipments = equipmentService.findEquipmentByDescription("");
+
+        assertEquals(3, equipments.size());
+        assertEquals("Client", equipments.get(0).getClient().getName());
+        assertEquals("City", equipments.get(0).getAddress().getCity());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
 }
@@ -1,5 +1,6 @@
 package academy.softserve.os.service;
 
+import academy.softserve.os.api.dto.EquipmentDTO;
 import academy.softserve.os.exception.CreateEquipmentException;
 import academy.softserve.os.model.Address;
 import academy.softserve.os.model.Client;
@@ -8,6 +9,7 @@ import academy.softserve.os.repository.AddressRepository;
 import academy.softserve.os.repository.ClientRepository;
 import academy.softserve.os.repository.EquipmentRepository;
 import academy.softserve.os.service.command.CreateEquipmentCommand;
+import academy.softserve.os.service.search.EquipmentDescriptionIndex;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +26,7 @@ import java.util.stream.Stream;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest
@@ -44,7 +47,8 @@ class EquipmentServiceTest {
         clientRepository = mock(ClientRepository.class);
         addressRepository = mock(AddressRepository.class);
         equipmentRepository = mock(EquipmentRepository.class);
-        equipmentService = new EquipmentService(equipmentRepository, clientRepository, addressRepository);
+        equipmentService = new EquipmentService(equipmentRepository, clientRepository, addressRepository,
+                new EquipmentDescriptionIndex(equipmentRepository));
         address = Address.builder()
                 .id(1L)
                 .city("ХАРКІВ")
@@ -75,16 +79,12 @@ class EquipmentServiceTest {
 
         when(addressRepository.findById(any(Long.class))).thenReturn(Optional.of(address));
         when(clientRepository.findById(any(Long.class))).thenReturn(Optional.of(client));
-        when(equipmentRepository.save(any(Equipment.class))).thenReturn(equipment);
-        when(equipmentRepository.findByDescriptionAndClientAndAddress(
-                equipment.getDescription(),
-                equipment.getClient(),
-                equipment.getAddress()
-        )).thenReturn(Optional.empty());
+        when(equipmentRepository.upsert("Description", 2L, 1L)).thenReturn(equipment.getId());
 
         var equipment1 = equipmentService.createEquipment(command);
 
-        assertEquals(equipment1.getDescription(), equipment.getDescription());
+        assertEquals(equipment.getId(), equipment1.getId());
+        assertEquals("Description", equipment1.getDescription());
     }
 
     @Test
@@ -93,12 +93,7 @@ class EquipmentServiceTest {
 
         when(addressRepository.findById(any(Long.class))).thenReturn(Optional.empty());
         when(clientRepository.findById(any(Long.class))).thenReturn(Optional.of(client));
-        when(equipmentRepository.save(any(Equipment.class))).thenReturn(equipment);
-        when(equipmentRepository.findByDescriptionAndClientAndAddress(
-                equipment.getDescription(),
-                equipment.getClient(),
-                equipment.getAddress()
-        )).thenReturn(Optional.empty());
+        when(equipmentRepository.upsert("Description", 2L, 1L)).thenReturn(equipment.getId());
 
         var thrown = Assertions.assertThrows(CreateEquipmentException.class,
                 () -> equipmentService.createEquipment(command));
@@ -112,12 +107,7 @@ class EquipmentServiceTest {
 
         when(addressRepository.findById(any(Long.class))).thenThrow(new InvalidDataAccessApiUsageException(errorMessage));
         when(clientRepository.findById(any(Long.class))).thenReturn(Optional.of(client));
-        when(equipmentRepository.save(any(Equipment.class))).thenReturn(equipment);
-        when(equipmentRepository.findByDescriptionAndClientAndAddress(
-                equipment.getDescription(),
-                equipment.getClient(),
-                equipment.getAddress()
-        )).thenReturn(Optional.empty());
+        when(equipmentRepository.upsert("Description", 2L, 1L)).thenReturn(equipment.getId());
 
         var thrown = Assertions.assertThrows(InvalidDataAccessApiUsageException.class,
                 () -> equipmentService.createEquipment(command));
@@ -130,12 +120,7 @@ class EquipmentServiceTest {
 
         when(addressRepository.findById(any(Long.class))).thenReturn(Optional.of(address));
         when(clientRepository.findById(any(Long.class))).thenReturn(Optional.empty());
-        when(equipmentRepository.save(any(Equipment.class))).thenReturn(equipment);
-        when(equipmentRepository.findByDescriptionAndClientAndAddress(
-                equipment.getDescription(),
-                equipment.getClient(),
-                equipment.getAddress()
-        )).thenReturn(Optional.empty());
+        when(equipmentRepository.upsert("Description", 2L, 1L)).thenReturn(equipment.getId());
 
         var thrown = Assertions.assertThrows(CreateEquipmentException.class,
                 () -> equipmentService.createEquipment(command));
@@ -148,12 +133,7 @@ class EquipmentServiceTest {
         String errorMessage = "Create equipment error. Client ID error.";
         when(addressRepository.findById(any(Long.class))).thenReturn(Optional.of(address));
         when(clientRepository.findById(any(Long.class))).thenThrow(new InvalidDataAccessApiUsageException(errorMessage));
-        when(equipmentRepository.save(any(Equipment.class))).thenReturn(equipment);
-        when(equipmentRepository.findByDescriptionAndClientAndAddress(
-                equipment.getDescription(),
-                equipment.getClient(),
-                equipment.getAddress()
-        )).thenReturn(Optional.empty());
+        when(equipmentRepository.upsert("Description", 2L, 1L)).thenReturn(equipment.getId());
 
         var thrown = Assertions.assertThrows(InvalidDataAccessApiUsageException.class,
                 () -> equipmentService.createEquipment(command));
@@ -167,12 +147,7 @@ class EquipmentServiceTest {
 
         when(addressRepository.findById(any(Long.class))).thenReturn(Optional.of(address));
         when(clientRepository.findById(any(Long.class))).thenReturn(Optional.of(client));
-        when(equipmentRepository.save(any(Equipment.class))).thenReturn(equipment);
-        when(equipmentRepository.findByDescriptionAndClientAndAddress(
-                equipment.getDescription(),
-                equipment.getClient(),
-                equipment.getAddress()
-        )).thenReturn(Optional.empty());
+        when(equipmentRepository.upsert("Description", 2L, 1L)).thenReturn(equipment.getId());
 
         var thrown = Assertions.assertThrows(CreateEquipmentException.class,
                 () -> equipmentService.createEquipment(command));
@@ -186,12 +161,7 @@ class EquipmentServiceTest {
 
         when(addressRepository.findById(any(Long.class))).thenReturn(Optional.of(address));
         when(clientRepository.findById(any(Long.class))).thenReturn(Optional.of(client));
-        when(equipmentRepository.save(any(Equipment.class))).thenReturn(equipment);
-        when(equipmentRepository.findByDescriptionAndClientAndAddress(
-                equipment.getDescription(),
-                equipment.getClient(),
-                equipment.getAddress()
-        )).thenReturn(Optional.empty());
+        when(equipmentRepository.upsert("Description", 2L, 1L)).thenReturn(equipment.getId());
 
         var thrown = Assertions.assertThrows(CreateEquipmentException.class,
                 () -> equipmentService.createEquipment(command));
@@ -201,24 +171,25 @@ class EquipmentServiceTest {
     @Test
     void givenDescriptionNullAndEmpty_findEquipment_returnListAllEquipment() {
         //given
-        var equipment1 = Equipment.builder()
-                .id(1L)
-                .description("Condition 2")
-                .build();
-        var equipment2 = Equipment.builder()
-                .id(1L)
-                .description("Watercoller")
-                .build();
-        var equipment3 = Equipment.builder()
-                .id(1L)
-                .description("Condition 1")
-                .build();
-        var equipments = List.of(equipment1, equipment2, equipment3);
+        var equipments = List.of(
+                EquipmentDTO.builder().id(1L).description("Condition 2").build(),
+                EquipmentDTO.builder().id(2L).description("Watercoller").build(),
+                EquipmentDTO.builder().id(3L).description("Condition 1").build());
         //when
-        when(equipmentRepository.findAll()).thenReturn(equipments);
+        when(equipmentRepository.findAllDTOs()).thenReturn(equipments);
         var result = equipmentService.findEquipmentByDescription(null);
         assertEquals(equipments.size(), result.size());
         result = equipmentService.findEquipmentByDescription("");
         assertEquals(equipments.size(), result.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenShortDescriptionWithWildcards_findEquipment_shouldEscapeLikePattern() {
+        //when
+        var result = equipmentService.findEquipmentByDescription("%");
+
+        //then
+        assertEquals(0, result.size());
+        verify(equipmentRepository).findDTOsByDescriptionLike("%\\%%");
+    }
+}
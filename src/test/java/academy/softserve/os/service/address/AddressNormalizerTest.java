@@ -0,0 +1,57 @@
+package academy.softserve.os.service.address;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AddressNormalizerTest {
+
+    @Test
+    void givenMixedCaseAndWhitespace_normalize_shouldMatchRegexNormalisation() {
+        //given
+        var values = List.of(" Харків", "Сумська   вул.", "буд.23 ", "\t вітальня \n", "a\t\tb", "Straße 1", "", "   ", "ÿ",
+                "\u0001 Київ \u0001", "\u0000\u001F", "a \u0001 b");
+
+        for (var value : values) {
+            //when
+            var normalized = AddressNormalizer.normalize(value);
+
+            //then
+            assertThat(normalized).isEqualTo(value.toUpperCase(Locale.ROOT).replaceAll("\\s+", " ").trim());
+        }
+    }
+
+    @Test
+    void givenNormalizedValue_normalize_shouldReturnSameInstance() {
+        //given
+        var value = "СУМСЬКА ВУЛ.";
+
+        //when
+        var normalized = AddressNormalizer.normalize(value);
+
+        //then
+        assertThat(normalized).isSameAs(value);
+    }
+
+    @Test
+    void givenNull_normalize_shouldReturnNull() {
+        //when
+        var normalized = AddressNormalizer.normalize(null);
+
+        //then
+        assertThat(normalized).isNull();
+    }
+
+    @Test
+    void givenDifferentlyFormattedFields_of_shouldReturnEqualKeys() {
+        //when
+        var first = AddressKey.of(" Харків", "Сумська  вул.", "23", null);
+        var second = AddressKey.of("ХАРКІВ", "сумська вул. ", " 23 ", null);
+
+        //then
+        assertThat(first).isEqualTo(second).hasSameHashCodeAs(second);
+    }
+}
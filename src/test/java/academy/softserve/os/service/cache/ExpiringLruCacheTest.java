@@ -0,0 +1,67 @@
+package academy.softserve.os.service.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpiringLruCacheTest {
+
+    private AtomicLong now;
+    private ExpiringLruCache<String, String> cache;
+
+    @BeforeEach
+    void init() {
+        now = new AtomicLong();
+        cache = new ExpiringLruCache<>(2, 1_000, now::get);
+    }
+
+    @Test
+    void givenCachedKey_get_shouldNotCallLoaderAgain() {
+        var loads = new AtomicLong();
+
+        cache.get("login", key -> "value" + loads.incrementAndGet());
+        var result = cache.get("login", key -> "value" + loads.incrementAndGet());
+
+        assertThat(result).isEqualTo("value1");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void givenExpiredEntry_getIfPresent_shouldReturnNullAndCountEviction() {
+        cache.put("login", "value");
+
+        now.addAndGet(1_000);
+
+        assertThat(cache.getIfPresent("login")).isNull();
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void givenFullCache_put_shouldEvictLeastRecentlyUsedEntry() {
+        cache.put("first", "1");
+        cache.put("second", "2");
+        cache.getIfPresent("first");
+
+        cache.put("third", "3");
+
+        assertThat(cache.getIfPresent("second")).isNull();
+        assertThat(cache.getIfPresent("first")).isEqualTo("1");
+        assertThat(cache.getIfPresent("third")).isEqualTo("3");
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void givenInvalidatedKey_get_shouldCallLoaderAgain() {
+        cache.put("login", "stale");
+
+        cache.invalidate("login");
+
+        assertThat(cache.get("login", key -> "fresh")).isEqualTo("fresh");
+    }
+}
@@ -0,0 +1,194 @@
+package academy.softserve.os.service.cost;
+
+import academy.softserve.os.api.dto.PriceDTO;
+import academy.softserve.os.model.Job;
+import academy.softserve.os.model.Order;
+import academy.softserve.os.model.Task;
+import academy.softserve.os.model.Worker;
+import academy.softserve.os.repository.PriceRepository;
+import academy.softserve.os.repository.TaskRepository;
+import academy.softserve.os.service.price.PriceBook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderCostLedgerTest {
+
+    private TaskRepository taskRepository;
+    private OrderCostLedger ledger;
+
+    @BeforeEach
+    void init() {
+        taskRepository = mock(TaskRepository.class);
+        var priceRepository = mock(PriceRepository.class);
+        when(priceRepository.findDTOsByJobId(1L)).thenReturn(List.of(
+                new PriceDTO(1L, new BigDecimal("100"), new BigDecimal("60"), LocalDate.parse("2022-01-01")),
+                new PriceDTO(2L, new BigDecimal("200"), new BigDecimal("120"), LocalDate.parse("2022-06-01"))));
+        ledger = new OrderCostLedger(taskRepository, new PriceBook(priceRepository, 100, 60_000), 100, 60_000);
+    }
+
+    @Test
+    void givenTasksAcrossPriceChange_load_shouldUsePriceEffectiveAtTaskCreation() {
+        //given
+        when(taskRepository.findCostViewsByOrderId(7L)).thenReturn(List.of(
+                costView(1L, 0.5, "2022-03-01T10:00", 1L, 10L),
+                costView(2L, 0.25, "2022-07-01T10:00", 1L, 11L),
+                costView(3L, 0.25, "2021-07-01T10:00", 1L, 11L)));
+
+        //when
+        var cost = ledger.load(7L);
+
+        //then
+        assertThat(cost.getClientTotal()).isEqualByComparingTo("100.00");
+        assertThat(cost.getWorkerTotal()).isEqualByComparingTo("60.00");
+        assertThat(cost.getWorkerTotals()).isEqualTo(Map.of(10L, new BigDecimal("30.00"), 11L, new BigDecimal("30.00")));
+        assertThat(cost.getTaskCount()).isEqualTo(3);
+        assertThat(cost.getUnpricedTaskCount()).isEqualTo(1);
+    }
+
+    @Test
+    void givenCachedOrder_recordAfterCommit_shouldAddTaskWithoutReloading() {
+        //given
+        when(taskRepository.findCostViewsByOrderId(7L)).thenReturn(List.of(
+                costView(1L, 0.5, "2022-03-01T10:00", 1L, 10L)));
+        ledger.load(7L);
+
+        //when
+        ledger.recordAfterCommit(List.of(task(2L, 7L, 0.5, "2022-07-01T10:00", 10L)));
+        var cost = ledger.findCached(7L).orElseThrow();
+
+        //then
+        assertThat(cost.getClientTotal()).isEqualByComparingTo("150.00");
+        assertThat(cost.getWorkerTotals()).isEqualTo(Map.of(10L, new BigDecimal("90.00")));
+        verify(taskRepository, times(1)).findCostViewsByOrderId(7L);
+    }
+
+    @Test
+    void givenTaskAlreadyCounted_recordAfterCommit_shouldNotCountItTwice() {
+        //given
+        when(taskRepository.findCostViewsByOrderId(7L)).thenReturn(List.of(
+                costView(1L, 0.5, "2022-03-01T10:00", 1L, 10L)));
+        ledger.load(7L);
+
+        //when
+        ledger.recordAfterCommit(List.of(task(1L, 7L, 0.5, "2022-03-01T10:00", 10L)));
+        var cost = ledger.findCached(7L).orElseGet(() -> ledger.load(7L));
+
+        //then
+        assertThat(cost.getClientTotal()).isEqualByComparingTo("50.00");
+        assertThat(cost.getTaskCount()).isEqualTo(1);
+    }
+
+    @Test
+    void givenTaskCommittedAfterHigherId_recordAfterCommit_shouldReloadOrder() {
+        //given
+        when(taskRepository.findCostViewsByOrderId(7L)).thenReturn(List.of(
+                costView(2L, 0.5, "2022-03-01T10:00", 1L, 10L)));
+        ledger.load(7L);
+        when(taskRepository.findCostViewsByOrderId(7L)).thenReturn(List.of(
+                costView(1L, 0.5, "2022-03-01T10:00", 1L, 10L),
+                costView(2L, 0.5, "2022-03-01T10:00", 1L, 10L)));
+
+        //when
+        ledger.recordAfterCommit(List.of(task(1L, 7L, 0.5, "2022-03-01T10:00", 10L)));
+        var cost = ledger.findCached(7L).orElseGet(() -> ledger.load(7L));
+
+        //then
+        assertThat(cost.getClientTotal()).isEqualByComparingTo("100.00");
+        assertThat(cost.getTaskCount()).isEqualTo(2);
+    }
+
+    @Test
+    void givenTasksOutOfIdOrder_recordAfterCommit_shouldCountAll() {
+        //given
+        when(taskRepository.findCostViewsByOrderId(7L)).thenReturn(List.of(
+                costView(1L, 0.5, "2022-03-01T10:00", 1L, 10L)));
+        ledger.load(7L);
+
+        //when
+        ledger.recordAfterCommit(List.of(
+                task(3L, 7L, 0.5, "2022-03-01T10:00", 10L),
+                task(2L, 7L, 0.5, "2022-03-01T10:00", 11L)));
+        var cost = ledger.findCached(7L).orElseThrow();
+
+        //then
+        assertThat(cost.getClientTotal()).isEqualByComparingTo("150.00");
+        assertThat(cost.getTaskCount()).isEqualTo(3);
+        verify(taskRepository, times(1)).findCostViewsByOrderId(7L);
+    }
+
+    @Test
+    void givenUncachedOrder_recordAfterCommit_shouldNotCacheIt() {
+        //given
+        //when
+        ledger.recordAfterCommit(List.of(task(1L, 8L, 0.5, "2022-03-01T10:00", 10L)));
+
+        //then
+        assertThat(ledger.findCached(8L)).isEmpty();
+    }
+
+    @Test
+    void givenPriceChange_invalidateAllAfterCommit_shouldDropCachedTotals() {
+        //given
+        when(taskRepository.findCostViewsByOrderId(7L)).thenReturn(List.of());
+        ledger.load(7L);
+
+        //when
+        ledger.invalidateAllAfterCommit();
+
+        //then
+        assertThat(ledger.findCached(7L)).isEmpty();
+    }
+
+    private static Task task(Long id, Long orderId, double partFactor, String timeCreate, Long workerId) {
+        return Task.builder()
+                .id(id)
+                .order(Order.builder().id(orderId).build())
+                .job(Job.builder().id(1L).build())
+                .worker(Worker.builder().id(workerId).build())
+                .partFactor(partFactor)
+                .timeCreate(LocalDateTime.parse(timeCreate))
+                .build();
+    }
+
+    private static TaskRepository.CostView costView(Long id, Double partFactor, String timeCreate, Long jobId,
+                                                    Long workerId) {
+        return new TaskRepository.CostView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Double getPartFactor() {
+                return partFactor;
+            }
+
+            @Override
+            public LocalDateTime getTimeCreate() {
+                return LocalDateTime.parse(timeCreate);
+            }
+
+            @Override
+            public Long getJobId() {
+                return jobId;
+            }
+
+            @Override
+            public Long getWorkerId() {
+                return workerId;
+            }
+        };
+    }
+}
@@ -1,51 +1,107 @@
 package academy.softserve.os.service.impl;
 
+import academy.softserve.os.api.dto.ClientDTO;
+import academy.softserve.os.repository.ClientRepository;
 import academy.softserve.os.service.ClientService;
 import academy.softserve.os.service.command.CreateClientCommand;
+import academy.softserve.os.service.search.ClientNameIndex;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
 @DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
-@Transactional
 class ClientServiceImplIntegrationTest {
 
     @Autowired
     private ClientService clientService;
+    @Autowired
+    private ClientNameIndex clientNameIndex;
+    @Autowired
+    private ClientRepository clientRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
     private CreateClientCommand client;
+    private final List<Long> createdIds = new ArrayList<>();
 
     @BeforeEach
     void init() {
         client = new CreateClientCommand("Sam");
-        clientService.createClient(new CreateClientCommand("PolRon"));
-        clientService.createClient(new CreateClientCommand("Pol"));
-        clientService.createClient(new CreateClientCommand("Ron"));
-        clientService.createClient(new CreateClientCommand("Ron Poll"));
+        create("PolRon");
+        create("Pol");
+        create("Ron");
+        create("Ron Poll");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        clientRepository.deleteAllById(createdIds);
     }
 
 
 
     @Test
     void givenClientName_findClientByName_shouldReturnListOfClientsWithMatchingName() {
-        var clients = clientService.findAllClientsByName("Pol");
+        var clients = clientService.findAllClientsByName("Pol", 10);
 
         assertEquals(3, clients.size());
     }
 
+    @Test
+    void givenClientNameAndLimit_findClientByName_shouldReturnPrefixMatchesFirst() {
+        var clients = clientService.findAllClientsByName("pol", 2);
+
+        assertEquals(List.of("Pol", "PolRon"), clients.stream().map(ClientDTO::getName).collect(Collectors.toList()));
+    }
+
     @Test
     void givenClientId_findClientById_shouldReturnClientWithGivenId() {
 
         var id = clientService.createClient(client).getId();
+        createdIds.add(id);
 
         var clientById = clientService.findClientById(id)
                 .orElseThrow();
 
         assertEquals(client.getName(), clientById.getName());
     }
+
+    @Test
+    void givenRolledBackClientCreation_findClientByName_shouldNeverIndexClient() {
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            clientService.createClient(new CreateClientCommand("Ghost"));
+            assertTrue(clientNameIndex.search("ghost", 10).isEmpty());
+            status.setRollbackOnly();
+        });
+
+        assertTrue(clientNameIndex.search("ghost", 10).isEmpty());
+    }
+
+    @Test
+    void givenUncommittedClientCreation_findClientByName_shouldIndexClientAfterCommit() {
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            createdIds.add(clientService.createClient(new CreateClientCommand("Pending")).getId());
+            assertTrue(clientNameIndex.search("pending", 10).isEmpty());
+        });
+
+        assertEquals(1, clientNameIndex.search("pending", 10).size());
+    }
+
+    private void create(String name) {
+        createdIds.add(clientService.createClient(new CreateClientCommand(name)).getId());
+    }
 }
@@ -4,6 +4,7 @@ import academy.softserve.os.model.Client;
 import academy.softserve.os.repository.ClientRepository;
 import academy.softserve.os.service.ClientService;
 import academy.softserve.os.service.command.CreateClientCommand;
+import academy.softserve.os.service.search.ClientNameIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -21,7 +22,7 @@ class ClientServiceImplTest {
     @BeforeEach
     void init() {
         clientRepository = Mockito.mock(ClientRepository.class);
-        clientService = new ClientServiceImpl(clientRepository);
+        clientService = new ClientServiceImpl(clientRepository, new ClientNameIndex(clientRepository));
     }
 
     @Test
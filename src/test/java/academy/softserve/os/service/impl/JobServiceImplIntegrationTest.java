@@ -0,0 +1,61 @@
+package academy.softserve.os.service.impl;
+
+import academy.softserve.os.repository.PriceRepository;
+import academy.softserve.os.service.JobService;
+import academy.softserve.os.service.PriceService;
+import academy.softserve.os.service.command.CreateJobCommand;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class JobServiceImplIntegrationTest {
+
+    @Autowired
+    private JobService jobService;
+    @Autowired
+    private PriceService priceService;
+    @Autowired
+    private PriceRepository priceRepository;
+
+    @Test
+    void givenCreateJobCommand_createJob_shouldPersistInitialPriceWithJob() {
+        //given
+        var command = CreateJobCommand.builder()
+                .description("Cascade job")
+                .clientPrice(new BigDecimal("50.00"))
+                .workerPrice(new BigDecimal("40.00"))
+                .build();
+
+        //when
+        var job = jobService.createJob(command);
+
+        //then
+        assertThat(job.getPrices()).hasSize(1);
+        assertThat(priceRepository.findDTOsByJobId(job.getId())).hasSize(1);
+        assertThat(priceService.findPriceAt(job.getId(), LocalDate.now()))
+                .hasValueSatisfying(price -> assertThat(price.getClientPrice()).isEqualByComparingTo("50.00"));
+    }
+
+    @Test
+    void givenCreateJobCommands_createJobs_shouldPersistEveryJobAndPrice() {
+        //given
+        var commands = List.of(
+                CreateJobCommand.builder().description("Batch job 1").clientPrice(BigDecimal.TEN).workerPrice(BigDecimal.ONE).build(),
+                CreateJobCommand.builder().description("Batch job 2").clientPrice(BigDecimal.TEN).workerPrice(BigDecimal.ONE).build(),
+                CreateJobCommand.builder().description("Batch job 3").clientPrice(BigDecimal.TEN).workerPrice(BigDecimal.ONE).build());
+
+        //when
+        var jobs = jobService.createJobs(commands);
+
+        //then
+        assertThat(jobs).hasSize(3);
+        jobs.forEach(job -> assertThat(priceRepository.findDTOsByJobId(job.getId())).hasSize(1));
+    }
+}
@@ -5,15 +5,20 @@ import academy.softserve.os.repository.JobRepository;
 import academy.softserve.os.repository.PriceRepository;
 import academy.softserve.os.service.JobService;
 import academy.softserve.os.service.command.CreateJobCommand;
+import academy.softserve.os.service.price.PriceBook;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class JobServiceImplTest {
@@ -23,8 +28,7 @@ class JobServiceImplTest {
     @BeforeEach
     void init(){
         repository = Mockito.mock(JobRepository.class);
-        var priceRepository = Mockito.mock(PriceRepository.class);
-        jobService = new JobServiceImpl(repository, priceRepository);
+        jobService = new JobServiceImpl(repository, new PriceBook(Mockito.mock(PriceRepository.class), 100, 60_000));
     }
 
     @Test
@@ -39,6 +43,23 @@ class JobServiceImplTest {
         var job = jobService.createJob(createJobCommand);
 
         assertEquals("Some job.", job.getDescription());
+        assertEquals(1, job.getPrices().size());
+        assertSame(job, job.getPrices().get(0).getJob());
+        assertEquals(new BigDecimal(40), job.getPrices().get(0).getClientPrice());
+    }
+
+    @Test
+    void givenCreateJobCommands_createJobs_shouldSaveAllJobsWithTheirPricesInOneCall() {
+        var commands = List.of(
+                CreateJobCommand.builder().description("First").clientPrice(BigDecimal.TEN).workerPrice(BigDecimal.ONE).build(),
+                CreateJobCommand.builder().description("Second").clientPrice(BigDecimal.TEN).workerPrice(BigDecimal.ONE).build());
+
+        when(repository.saveAll(anyList())).then(returnsFirstArg());
+        var jobs = jobService.createJobs(commands);
+
+        verify(repository).saveAll(anyList());
+        assertEquals(List.of("First", "Second"), jobs.stream().map(Job::getDescription).collect(Collectors.toList()));
+        assertTrue(jobs.stream().allMatch(job -> job.getPrices().size() == 1));
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,143 @@
+package academy.softserve.os.service.impl;
+
+import academy.softserve.os.api.dto.OrderDTO;
+import academy.softserve.os.model.Order;
+import academy.softserve.os.repository.OrderFilter;
+import academy.softserve.os.service.ClientService;
+import academy.softserve.os.service.JobService;
+import academy.softserve.os.service.OrderService;
+import academy.softserve.os.service.TaskService;
+import academy.softserve.os.service.WorkerService;
+import academy.softserve.os.service.command.CreateClientCommand;
+import academy.softserve.os.service.command.CreateJobCommand;
+import academy.softserve.os.service.command.CreateOrderCommand;
+import academy.softserve.os.service.command.CreateTaskCommand;
+import academy.softserve.os.service.command.CreateWorkerCommand;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class OrderServiceImplIntegrationTest {
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private JobService jobService;
+    @Autowired
+    private ClientService clientService;
+    @Autowired
+    private WorkerService workerService;
+    @Autowired
+    private TaskService taskService;
+
+    @Test
+    void givenOrderWithTasks_findOrderCost_shouldSumPricesScaledByPartFactor() {
+        //given
+        var job = jobService.createJob(CreateJobCommand.builder()
+                .description("Costed job")
+                .clientPrice(new BigDecimal("200.00"))
+                .workerPrice(new BigDecimal("120.00"))
+                .build());
+        var client = clientService.createClient(new CreateClientCommand("Cost client"));
+        var order = orderService.createOrder(CreateOrderCommand.builder()
+                .clientId(client.getId())
+                .placementDate(LocalDateTime.now())
+                .closingDate(LocalDateTime.now().plusDays(1))
+                .phase(1)
+                .description("Costed order")
+                .build());
+        var worker = workerService.createWorker(CreateWorkerCommand.builder()
+                .firstName("Cost")
+                .lastName("Worker")
+                .login("cost-worker")
+                .password("12345678")
+                .build());
+        taskService.createTasks(List.of(
+                CreateTaskCommand.builder().orderId(order.getId()).jobId(job.getId()).workerId(worker.getId()).partFactor(0.5).build(),
+                CreateTaskCommand.builder().orderId(order.getId()).jobId(job.getId()).workerId(worker.getId()).partFactor(0.25).build()));
+
+        //when
+        var cost = orderService.findOrderCost(order.getId()).orElseThrow();
+
+        //then
+        assertThat(cost.getClientTotal()).isEqualByComparingTo("150.00");
+        assertThat(cost.getWorkerTotal()).isEqualByComparingTo("90.00");
+        assertThat(cost.getWorkerTotals()).containsOnlyKeys(worker.getId());
+        assertThat(cost.getTaskCount()).isEqualTo(2);
+    }
+
+    @Test
+    void givenUnknownOrder_findOrderCost_shouldReturnEmpty() {
+        //when
+        var cost = orderService.findOrderCost(-1L);
+
+        //then
+        assertThat(cost).isEmpty();
+    }
+
+    @Test
+    void givenOrdersOfClient_findOrders_shouldPageByPlacementDateWithKeyset() {
+        //given
+        var client = clientService.createClient(new CreateClientCommand("Listed client"));
+        var placed = LocalDateTime.parse("2022-06-01T00:00:00");
+        var first = createOrder(client.getId(), placed, 1);
+        var second = createOrder(client.getId(), placed, 2);
+        var third = createOrder(client.getId(), placed.plusDays(1), 1);
+        var filter = OrderFilter.builder().clientId(client.getId());
+
+        //when
+        var firstPage = orderService.findOrders(filter.build(), 2);
+        var last = firstPage.getContent().get(1);
+        var secondPage = orderService.findOrders(filter
+                .afterPlacementDate(last.getPlacementDate())
+                .afterId(last.getId())
+                .build(), 2);
+
+        //then
+        assertThat(firstPage.getContent()).extracting(OrderDTO::getId).containsExactly(first.getId(), second.getId());
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(secondPage.getContent()).extracting(OrderDTO::getId).containsExactly(third.getId());
+        assertThat(secondPage.hasNext()).isFalse();
+    }
+
+    @Test
+    void givenPhaseAndPlacementRange_findOrders_shouldReturnOnlyMatchingOrders() {
+        //given
+        var client = clientService.createClient(new CreateClientCommand("Filtered client"));
+        var placed = LocalDateTime.parse("2022-06-01T00:00:00");
+        createOrder(client.getId(), placed, 2);
+        createOrder(client.getId(), placed.minusDays(1), 1);
+        var matching = createOrder(client.getId(), placed, 1);
+
+        //when
+        var page = orderService.findOrders(OrderFilter.builder()
+                .clientId(client.getId())
+                .phase(1)
+                .placedFrom(placed)
+                .placedBefore(placed.plusDays(1))
+                .build(), 10);
+
+        //then
+        assertThat(page.getContent()).extracting(OrderDTO::getId).containsExactly(matching.getId());
+        assertThat(page.getContent().get(0).getClientId()).isEqualTo(client.getId());
+    }
+
+    private Order createOrder(Long clientId, LocalDateTime placementDate, int phase) {
+        return orderService.createOrder(CreateOrderCommand.builder()
+                .clientId(clientId)
+                .placementDate(placementDate)
+                .closingDate(placementDate.plusDays(7))
+                .phase(phase)
+                .description("Listed order")
+                .build());
+    }
+}
@@ -7,6 +7,7 @@ import academy.softserve.os.repository.ClientRepository;
 import academy.softserve.os.repository.OrderRepository;
 import academy.softserve.os.service.OrderService;
 import academy.softserve.os.service.command.CreateOrderCommand;
+import academy.softserve.os.service.cost.OrderCostLedger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -36,7 +37,7 @@ class OrderServiceImplTest {
     public void init() {
         orderRepository = Mockito.mock(OrderRepository.class);
         clientRepository = Mockito.mock(ClientRepository.class);
-        orderService = new OrderServiceImpl(orderRepository, clientRepository);
+        orderService = new OrderServiceImpl(orderRepository, clientRepository, Mockito.mock(OrderCostLedger.class));
         var currentYear = LocalDate.now().getYear();
         var currentMonth = LocalDate.now().getMonth();
         var currentDay = LocalDate.now().getDayOfMonth();
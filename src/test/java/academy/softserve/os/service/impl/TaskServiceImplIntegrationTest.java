@@ -1,7 +1,9 @@
 package academy.softserve.os.service.impl;
 
+import academy.softserve.os.exception.CreateTaskException;
 import academy.softserve.os.model.Job;
 import academy.softserve.os.repository.JobRepository;
+import academy.softserve.os.repository.OrderRepository;
 import academy.softserve.os.repository.TaskRepository;
 import academy.softserve.os.service.ClientService;
 import academy.softserve.os.service.OrderService;
@@ -11,16 +13,22 @@ import academy.softserve.os.service.command.CreateClientCommand;
 import academy.softserve.os.service.command.CreateOrderCommand;
 import academy.softserve.os.service.command.CreateTaskCommand;
 import academy.softserve.os.service.command.CreateWorkerCommand;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
-@SpringBootTest
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @Transactional
 public class TaskServiceImplIntegrationTest {
 
@@ -31,6 +39,8 @@ public class TaskServiceImplIntegrationTest {
     private TaskRepository taskRepository;
     @Autowired
     private JobRepository jobRepository;
+    @Autowired
+    private OrderRepository orderRepository;
 
     @Autowired
     private OrderService orderService;
@@ -41,6 +51,9 @@ public class TaskServiceImplIntegrationTest {
     @Autowired
     private ClientService clientService;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void givenCreateTaskCommand_createTask_shouldReturnTask() {
         //given
@@ -93,4 +106,169 @@ public class TaskServiceImplIntegrationTest {
         assertThat(result.getOrder().getPlacementDate()).isEqualTo(order.getPlacementDate());
         assertThat(result.getOrder().getClosingDate()).isEqualTo(order.getClosingDate());
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenFullyAllocatedOrder_createTask_shouldThrowException() {
+        //given
+        var job = jobRepository.save(Job.builder().description("Job description").build());
+        var client = clientService.createClient(new CreateClientCommand("Bob"));
+        var order = orderService.createOrder(CreateOrderCommand.builder()
+                .clientId(client.getId())
+                .placementDate(LocalDateTime.now())
+                .build());
+        var worker = workerService.createWorker(CreateWorkerCommand.builder()
+                .firstName("John")
+                .lastName("Smith")
+                .login("John456")
+                .password("12345678")
+                .build());
+        var createTaskCommand = CreateTaskCommand.builder()
+                .jobId(job.getId())
+                .orderId(order.getId())
+                .workerId(worker.getId())
+                .createWorkerId(worker.getId())
+                .partFactor(0.6)
+                .build();
+        taskService.createTask(createTaskCommand);
+
+        //when
+        var exception = assertThrows(CreateTaskException.class, () -> taskService.createTask(createTaskCommand));
+
+        //then
+        assertThat(exception.getMessage()).isEqualTo("Part factor is too big");
+        assertThat(orderRepository.findById(order.getId()).orElseThrow().getAllocatedPartFactor()).isEqualTo(0.6);
+    }
+
+    @Test
+    void givenCreateTaskCommand_createTask_shouldResolveReferencesWithoutExtraQueries() {
+        //given
+        var job = jobRepository.save(Job.builder().description("Job description").build());
+        var client = clientService.createClient(new CreateClientCommand("Carl"));
+        var order = orderService.createOrder(CreateOrderCommand.builder()
+                .clientId(client.getId())
+                .placementDate(LocalDateTime.now())
+                .build());
+        var worker = workerService.createWorker(CreateWorkerCommand.builder()
+                .firstName("John")
+                .lastName("Smith")
+                .login("John789")
+                .password("12345678")
+                .build());
+        var createTaskCommand = CreateTaskCommand.builder()
+                .jobId(job.getId())
+                .orderId(order.getId())
+                .workerId(worker.getId())
+                .createWorkerId(worker.getId())
+                .partFactor(0.25)
+                .build();
+        taskService.createTask(createTaskCommand);
+        entityManager.flush();
+        entityManager.clear();
+        var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        //when
+        taskService.createTask(createTaskCommand);
+        entityManager.flush();
+
+        //then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void givenNotExistingWorkerId_createTask_shouldThrowException() {
+        //given
+        var job = jobRepository.save(Job.builder().description("Job description").build());
+        var client = clientService.createClient(new CreateClientCommand("Dan"));
+        var order = orderService.createOrder(CreateOrderCommand.builder()
+                .clientId(client.getId())
+                .placementDate(LocalDateTime.now())
+                .build());
+        var createTaskCommand = CreateTaskCommand.builder()
+                .jobId(job.getId())
+                .orderId(order.getId())
+                .workerId(999L)
+                .partFactor(0.5)
+                .build();
+
+        //when
+        var exception = assertThrows(CreateTaskException.class, () -> taskService.createTask(createTaskCommand));
+
+        //then
+        assertThat(exception.getMessage()).isEqualTo("Worker with id = 999 doesn't exist");
+    }
+
+    @Test
+    void givenCreateTaskCommands_createTasks_shouldInsertTasksInOneBatch() {
+        //given
+        var job = jobRepository.save(Job.builder().description("Job description").build());
+        var client = clientService.createClient(new CreateClientCommand("Eve"));
+        var order = orderService.createOrder(CreateOrderCommand.builder()
+                .clientId(client.getId())
+                .placementDate(LocalDateTime.now())
+                .build());
+        var worker = workerService.createWorker(CreateWorkerCommand.builder()
+                .firstName("John")
+                .lastName("Smith")
+                .login("John000")
+                .password("12345678")
+                .build());
+        var createTaskCommand = CreateTaskCommand.builder()
+                .jobId(job.getId())
+                .orderId(order.getId())
+                .workerId(worker.getId())
+                .createWorkerId(worker.getId())
+                .partFactor(0.04)
+                .build();
+        taskService.createTask(createTaskCommand);
+        entityManager.flush();
+        entityManager.clear();
+        var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        //when
+        var result = taskService.createTasks(Collections.nCopies(20, createTaskCommand));
+        entityManager.flush();
+
+        //then
+        assertThat(result).hasSize(20);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(20);
+        assertThat(orderRepository.findById(order.getId()).orElseThrow().getAllocatedPartFactor()).isCloseTo(0.84, within(1e-9));
+    }
+
+    @Test
+    void givenTooBigCombinedPartFactor_createTasks_shouldThrowException() {
+        //given
+        var job = jobRepository.save(Job.builder().description("Job description").build());
+        var client = clientService.createClient(new CreateClientCommand("Fred"));
+        var order = orderService.createOrder(CreateOrderCommand.builder()
+                .clientId(client.getId())
+                .placementDate(LocalDateTime.now())
+                .build());
+        var worker = workerService.createWorker(CreateWorkerCommand.builder()
+                .firstName("John")
+                .lastName("Smith")
+                .login("John111")
+                .password("12345678")
+                .build());
+        var createTaskCommand = CreateTaskCommand.builder()
+                .jobId(job.getId())
+                .orderId(order.getId())
+                .workerId(worker.getId())
+                .partFactor(0.3)
+                .build();
+
+        //when
+        var exception = assertThrows(CreateTaskException.class,
+                () -> taskService.createTasks(List.of(createTaskCommand, createTaskCommand, createTaskCommand, createTaskCommand)));
+
+        //then
+        assertThat(exception.getMessage()).isEqualTo("Part factor is too big");
+        assertThat(taskRepository.count()).isZero();
+    }
+}
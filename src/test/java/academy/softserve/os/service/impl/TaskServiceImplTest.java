@@ -7,13 +7,19 @@ import academy.softserve.os.model.Task;
 import academy.softserve.os.model.Worker;
 import academy.softserve.os.repository.JobRepository;
 import academy.softserve.os.repository.OrderRepository;
+import academy.softserve.os.repository.PriceRepository;
 import academy.softserve.os.repository.TaskRepository;
 import academy.softserve.os.repository.WorkerRepository;
 import academy.softserve.os.service.TaskService;
 import academy.softserve.os.service.command.CreateTaskCommand;
+import academy.softserve.os.service.cost.OrderCostLedger;
+import academy.softserve.os.service.price.PriceBook;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
 
-import java.util.ArrayList;
+import java.sql.SQLException;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -21,6 +27,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class TaskServiceImplTest {
@@ -36,7 +44,8 @@ public class TaskServiceImplTest {
         this.orderRepository = mock(OrderRepository.class);
         this.workerRepository = mock(WorkerRepository.class);
         this.jobRepository = mock(JobRepository.class);
-        this.taskService = new TaskServiceImpl(taskRepository, orderRepository, workerRepository, jobRepository);
+        this.taskService = new TaskServiceImpl(taskRepository, orderRepository, workerRepository, jobRepository,
+                new OrderCostLedger(taskRepository, new PriceBook(mock(PriceRepository.class), 100, 60_000), 100, 60_000));
     }
 
     @Test
@@ -53,19 +62,11 @@ public class TaskServiceImplTest {
                 .build();
 
         //when
-        var tasks = new ArrayList<Task>() {{
-            add(Task.builder().partFactor(0.5).build());
-        }};
-        when(taskRepository.findAllByOrderId(1L)).thenReturn(tasks);
-        when(taskRepository.save(any(Task.class))).then(returnsFirstArg());
-        when(orderRepository.findById(1L))
-                .thenReturn(Optional.ofNullable(Order.builder().id(1L).build()));
-        when(orderRepository.existsById(1L)).thenReturn(true);
-        when(workerRepository.findById(1L)).thenReturn(Optional.of(new Worker()));
-        when(workerRepository.findByUserId(1L)).thenReturn(Optional.of(new Worker()));
-        when(workerRepository.existsById(1L)).thenReturn(true);
-        when(jobRepository.findById(1L)).thenReturn(Optional.of(new Job()));
-        when(jobRepository.existsById(1L)).thenReturn(true);
+        var order = Order.builder().id(1L).allocatedPartFactor(0.5).build();
+        when(taskRepository.saveAndFlush(any(Task.class))).then(returnsFirstArg());
+        when(orderRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(order));
+        when(workerRepository.getReferenceById(1L)).thenReturn(new Worker());
+        when(jobRepository.getReferenceById(1L)).thenReturn(new Job());
 
         var result = taskService.createTask(createTaskCommand);
 
@@ -75,6 +76,7 @@ public class TaskServiceImplTest {
         assertThat(result.getCreator()).isNotNull();
         assertThat(result.getJob()).isNotNull();
         assertThat(result.getOrder()).isNotNull();
+        assertThat(order.getAllocatedPartFactor()).isEqualTo(1.0);
     }
 
     @Test
@@ -91,11 +93,8 @@ public class TaskServiceImplTest {
                 .build();
 
         //when
-        var tasks = new ArrayList<Task>() {{
-            add(Task.builder().partFactor(0.5).build());
-            add(Task.builder().partFactor(0.4).build());
-        }};
-        when(taskRepository.findAllByOrderId(1L)).thenReturn(tasks);
+        when(orderRepository.findByIdForUpdate(1L))
+                .thenReturn(Optional.of(Order.builder().id(1L).allocatedPartFactor(0.9).build()));
         var exception = assertThrows(CreateTaskException.class, () -> taskService.createTask(createTaskCommand));
 
         //then
@@ -116,7 +115,7 @@ public class TaskServiceImplTest {
                 .build();
 
         //when
-        when(orderRepository.existsById(1L)).thenReturn(false);
+        when(orderRepository.findByIdForUpdate(1L)).thenReturn(Optional.empty());
         var exception = assertThrows(CreateTaskException.class, () -> taskService.createTask(createTaskCommand));
 
         //then
@@ -137,8 +136,8 @@ public class TaskServiceImplTest {
                 .build();
 
         //when
-        when(orderRepository.existsById(1L)).thenReturn(true);
-        when(workerRepository.existsById(1L)).thenReturn(false);
+        when(orderRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(Order.builder().id(1L).build()));
+        when(taskRepository.saveAndFlush(any(Task.class))).thenThrow(foreignKeyViolation("TASK_WORKER"));
         var exception = assertThrows(CreateTaskException.class, () -> taskService.createTask(createTaskCommand));
 
         //then
@@ -159,12 +158,40 @@ public class TaskServiceImplTest {
                 .build();
 
         //when
-        when(orderRepository.existsById(1L)).thenReturn(true);
-        when(workerRepository.existsById(1L)).thenReturn(true);
-        when(jobRepository.existsById(1L)).thenReturn(false);
+        when(orderRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(Order.builder().id(1L).build()));
+        when(taskRepository.saveAndFlush(any(Task.class))).thenThrow(foreignKeyViolation("TASK_JOB"));
         var exception = assertThrows(CreateTaskException.class, () -> taskService.createTask(createTaskCommand));
 
         //then
         assertThat(exception.getMessage()).isEqualTo("Job with id = 1 doesn't exist");
     }
+
+    @Test
+    void givenNotExistingJobId_createTasks_shouldThrowException() {
+        //given
+        var createTaskCommand = CreateTaskCommand
+                .builder()
+                .partFactor(0.1)
+                .jobId(2L)
+                .workerId(1L)
+                .orderId(1L)
+                .build();
+
+        //when
+        when(orderRepository.findAllByIdForUpdate(any())).thenReturn(List.of(Order.builder().id(1L).build()));
+        when(workerRepository.findAllById(any())).thenReturn(List.of(Worker.builder().id(1L).build()));
+        when(jobRepository.findAllById(any())).thenReturn(List.of());
+
+        var exception = assertThrows(CreateTaskException.class,
+                () -> taskService.createTasks(List.of(createTaskCommand, createTaskCommand)));
+
+        //then
+        assertThat(exception.getMessage()).isEqualTo("Job with id = 2 doesn't exist");
+        verify(taskRepository, never()).saveAll(any());
+    }
+
+    private static DataIntegrityViolationException foreignKeyViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", new SQLException(), constraintName));
+    }
 }
@@ -0,0 +1,46 @@
+package academy.softserve.os.service.impl;
+
+import academy.softserve.os.repository.UserRepository;
+import academy.softserve.os.service.WorkerService;
+import academy.softserve.os.service.command.CreateWorkerCommand;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class UserServiceImplIntegrationTest {
+
+    @Autowired
+    private WorkerService workerService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AuthenticationManager authenticationManager;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void givenLegacyPasswordHash_authenticate_shouldUpgradeStoredHash() {
+        //given
+        workerService.createWorker(CreateWorkerCommand.builder()
+                .firstName("Legacy")
+                .lastName("Hash")
+                .login("legacy-hash")
+                .password("12345678")
+                .build());
+        transactionTemplate.executeWithoutResult(status -> userRepository.findByLogin("legacy-hash").orElseThrow()
+                .setPasswordHash(new BCryptPasswordEncoder(4).encode("12345678")));
+
+        //when
+        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken("legacy-hash", "12345678"));
+
+        //then
+        assertThat(userRepository.findByLogin("legacy-hash").orElseThrow().getPasswordHash()).startsWith("{bcrypt}$2a$10$");
+    }
+}
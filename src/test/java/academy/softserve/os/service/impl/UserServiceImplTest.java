@@ -3,10 +3,10 @@ package academy.softserve.os.service.impl;
 import academy.softserve.os.model.User;
 import academy.softserve.os.model.UserDetailsImpl;
 import academy.softserve.os.repository.UserRepository;
+import academy.softserve.os.service.cache.PrincipalCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.List;
 import java.util.Optional;
@@ -26,8 +26,7 @@ class UserServiceImplTest {
     @BeforeEach
     void init() {
         userRepository = mock(UserRepository.class);
-        var passwordEncoder = mock(PasswordEncoder.class);
-        userService = new UserServiceImpl(userRepository, passwordEncoder);
+        userService = new UserServiceImpl(userRepository, new PrincipalCache(100, 60_000));
     }
 
     @Test
@@ -62,4 +61,22 @@ class UserServiceImplTest {
         assertThatThrownBy(() -> userService.loadUserByUsername(any()))
                 .isInstanceOf(UsernameNotFoundException.class);
     }
+
+    @Test
+    void givenRehashedPassword_updatePassword_shouldStoreNewHash() {
+        //given
+        var user = User.builder()
+                .login("login")
+                .passwordHash("$2a$04$old")
+                .roles(List.of())
+                .build();
+        when(userRepository.findByLogin("login")).thenReturn(Optional.of(user));
+
+        //when
+        var result = userService.updatePassword(UserDetailsImpl.from(user), "{bcrypt}$2a$10$new");
+
+        //then
+        assertThat(user.getPasswordHash()).isEqualTo("{bcrypt}$2a$10$new");
+        assertThat(result.getPassword()).isEqualTo("{bcrypt}$2a$10$new");
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package academy.softserve.os.service.impl;
 
+import academy.softserve.os.exception.LoginIsNotUniqueException;
 import academy.softserve.os.model.Role;
 import academy.softserve.os.model.RoleAssignment;
 import academy.softserve.os.model.User;
@@ -7,17 +8,26 @@ import academy.softserve.os.model.Worker;
 import academy.softserve.os.repository.WorkerRepository;
 import academy.softserve.os.service.UserService;
 import academy.softserve.os.service.WorkerService;
+import academy.softserve.os.service.cache.PrincipalCache;
 import academy.softserve.os.service.command.CreateUserCommand;
 import academy.softserve.os.service.command.CreateWorkerCommand;
+import academy.softserve.os.service.password.PasswordHasher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class WorkerServiceImplTest {
@@ -30,7 +40,9 @@ class WorkerServiceImplTest {
     void init() {
         workerRepository = mock(WorkerRepository.class);
         userService = mock(UserService.class);
-        workerService = new WorkerServiceImpl(workerRepository, userService);
+        workerService = new WorkerServiceImpl(workerRepository, userService, new PrincipalCache(100, 60_000),
+                new PasswordHasher(NoOpPasswordEncoder.getInstance(), 1, 1),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
     }
 
     @Test
@@ -77,4 +89,27 @@ class WorkerServiceImplTest {
         assertThat(result.getUser().getLogin()).isEqualTo(requestWorker.getUser().getLogin());
         assertThat(result.getUser().getPasswordHash()).isEqualTo(requestWorker.getUser().getPasswordHash());
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenTakenLogin_createWorker_shouldThrowWithoutHashing() {
+        //given
+        var passwordEncoder = mock(PasswordEncoder.class);
+        workerService = new WorkerServiceImpl(workerRepository, userService, new PrincipalCache(100, 60_000),
+                new PasswordHasher(passwordEncoder, 1, 1),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        var createWorkerCommand = CreateWorkerCommand
+                .builder()
+                .firstName("John")
+                .lastName("Smith")
+                .login("john123")
+                .password("12345")
+                .build();
+        when(userService.existsByLogin("john123")).thenReturn(true);
+
+        //when
+        //then
+        assertThatThrownBy(() -> workerService.createWorker(createWorkerCommand))
+                .isInstanceOf(LoginIsNotUniqueException.class);
+        verify(passwordEncoder, never()).encode(any());
+    }
+}
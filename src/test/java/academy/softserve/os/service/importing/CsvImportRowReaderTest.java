@@ -0,0 +1,86 @@
+package academy.softserve.os.service.importing;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvImportRowReaderTest {
+
+    @Test
+    void givenQuotedFields_next_shouldUnescapeQuotesCommasAndLineBreaks() throws IOException {
+        //given
+        var csv = "client,city,street,house,room,description\r\n"
+                + "\"Acme, Inc\",Kyiv,Khreshchatyk,1,,\"Boiler \"\"B2\"\"\nsecond floor\"\r\n"
+                + "Globex,Lviv,Rynok,2,5,Pump\r\n";
+
+        //when
+        var rows = readAll(csv);
+
+        //then
+        assertEquals(2, rows.size());
+        assertEquals("Acme, Inc", rows.get(0).getClient());
+        assertEquals("", rows.get(0).getRoom());
+        assertEquals("Boiler \"B2\"\nsecond floor", rows.get(0).getDescription());
+        assertEquals(2, rows.get(0).getLine());
+        assertEquals("5", rows.get(1).getRoom());
+        assertEquals(4, rows.get(1).getLine());
+    }
+
+    @Test
+    void givenReorderedHeaderWithoutRoom_next_shouldMapColumnsByName() throws IOException {
+        //given
+        var csv = "﻿Description,House,Street,City,Client\n\nPump,7,Main,Odesa,Initech";
+
+        //when
+        var rows = readAll(csv);
+
+        //then
+        assertEquals(1, rows.size());
+        var row = rows.get(0);
+        assertEquals("Initech", row.getClient());
+        assertEquals("Odesa", row.getCity());
+        assertEquals("Main", row.getStreet());
+        assertEquals("7", row.getHouse());
+        assertNull(row.getRoom());
+        assertEquals("Pump", row.getDescription());
+        assertEquals(3, row.getLine());
+    }
+
+    @Test
+    void givenHeaderWithoutRequiredColumn_next_shouldThrowIOException() {
+        //given
+        var reader = new CsvImportRowReader(new StringReader("client,city,street,house\nA,B,C,1\n"));
+
+        //when
+        //then
+        assertThrows(IOException.class, reader::next);
+    }
+
+    @Test
+    void givenUnterminatedQuote_next_shouldThrowIOException() throws IOException {
+        //given
+        var reader = new CsvImportRowReader(new StringReader("client,city,street,house,description\nA,B,C,1,\"Pump"));
+
+        //when
+        //then
+        assertThrows(IOException.class, reader::next);
+    }
+
+    private static List<ImportRow> readAll(String csv) throws IOException {
+        var rows = new ArrayList<ImportRow>();
+        try (var reader = new CsvImportRowReader(new StringReader(csv))) {
+            ImportRow row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,40 @@
+package academy.softserve.os.service.importing;
+
+import academy.softserve.os.repository.ClientRepository;
+import academy.softserve.os.service.address.AddressKey;
+import academy.softserve.os.service.search.ClientNameIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ImportChunkWriterIntegrationTest {
+
+    @Autowired
+    private ImportChunkWriter chunkWriter;
+    @Autowired
+    private ClientRepository clientRepository;
+    @Autowired
+    private ClientNameIndex clientNameIndex;
+
+    @Test
+    void givenNewClient_writeWithUpserts_shouldInsertItOnceAndIndexItAfterCommit() {
+        //given
+        var records = List.of(new ImportRecord("Upserted Import Client",
+                AddressKey.of("Lviv", "Horodotska", "7", null), "Compressor"));
+
+        //when
+        chunkWriter.writeWithUpserts(records);
+        chunkWriter.writeWithUpserts(records);
+
+        //then
+        var clients = clientRepository.findAllByNameIn(Set.of("Upserted Import Client"));
+        assertThat(clients).hasSize(1);
+        assertThat(clientNameIndex.search("upserted import", 10)).containsExactly(clients.get(0).getId());
+    }
+}
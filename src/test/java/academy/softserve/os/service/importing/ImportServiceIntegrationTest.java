@@ -0,0 +1,113 @@
+package academy.softserve.os.service.importing;
+
+import academy.softserve.os.api.dto.ImportStatusDTO;
+import academy.softserve.os.exception.ImportTooLargeException;
+import academy.softserve.os.repository.AddressRepository;
+import academy.softserve.os.repository.ClientRepository;
+import academy.softserve.os.repository.EquipmentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+@SpringBootTest(properties = "app.importChunkSize=2")
+class ImportServiceIntegrationTest {
+
+    @Autowired
+    private ImportService importService;
+    @Autowired
+    private ClientRepository clientRepository;
+    @Autowired
+    private AddressRepository addressRepository;
+    @Autowired
+    private EquipmentRepository equipmentRepository;
+    @Autowired
+    private ImportChunkWriter chunkWriter;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void givenCsvWithDuplicatesAndInvalidRows_submit_shouldWriteDistinctRowsAndReportRejections() throws Exception {
+        //given
+        var csv = "client,city,street,house,room,description\n"
+                + "Import Client One,Kharkiv,Sumska,10,,Chiller   unit\n"
+                + "Import Client One, kharkiv ,SUMSKA,10,,Chiller unit\n"
+                + "Import Client Two,Kharkiv,Sumska,10,,Chiller unit\n"
+                + ",Kharkiv,Sumska,10,,Boiler\n"
+                + "Import Client Two,Kharkiv,Sumska,123456,,Boiler\n";
+        var clients = clientRepository.count();
+        var addresses = addressRepository.count();
+        var equipment = equipmentRepository.count();
+
+        //when
+        var job = importService.submit(ImportFormat.CSV, new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+        var status = awaitFinished(job);
+
+        //then
+        assertEquals(ImportJob.State.COMPLETED.name(), status.getState());
+        assertEquals(5, status.getRowsRead());
+        assertEquals(3, status.getRowsWritten());
+        assertEquals(2, status.getRowsRejected());
+        assertEquals(List.of("line 5: client is missing", "line 6: value too long"), status.getErrors());
+        assertEquals(clients + 2, clientRepository.count());
+        assertEquals(addresses + 1, addressRepository.count());
+        assertEquals(equipment + 2, equipmentRepository.count());
+    }
+
+    @Test
+    void givenJsonLinesImportedTwice_submit_shouldNotDuplicateRows() throws Exception {
+        //given
+        var json = "{\"client\":\"Import Client Json\",\"city\":\"Dnipro\",\"street\":\"Naberezhna\",\"house\":\"3\",\"description\":\"Lift\"}\n"
+                + "{\"client\":\"Import Client Json\",\"city\":\"Dnipro\",\"street\":\"Naberezhna\",\"house\":\"3\",\"room\":\"12\",\"description\":\"Lift\"}\n";
+        var first = awaitFinished(importService.submit(ImportFormat.JSON, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))));
+        var equipment = equipmentRepository.count();
+
+        //when
+        var second = awaitFinished(importService.submit(ImportFormat.JSON, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))));
+
+        //then
+        assertEquals(ImportJob.State.COMPLETED.name(), first.getState());
+        assertEquals(ImportJob.State.COMPLETED.name(), second.getState());
+        assertEquals(2, second.getRowsWritten());
+        assertEquals(equipment, equipmentRepository.count());
+    }
+
+    @Test
+    void givenUploadOverMaxBytes_submit_shouldRejectWithoutWriting() {
+        //given
+        var limited = new ImportService(chunkWriter, objectMapper, 2, 1, 1, 16);
+        var csv = "client,city,street,house,room,description\n"
+                + "Import Client Big,Kharkiv,Sumska,10,,Chiller unit\n";
+        var clients = clientRepository.count();
+
+        //when
+        //then
+        try {
+            assertThrows(ImportTooLargeException.class,
+                    () -> limited.submit(ImportFormat.CSV, new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))));
+            assertEquals(clients, clientRepository.count());
+        } finally {
+            limited.shutdown();
+        }
+    }
+
+    private ImportStatusDTO awaitFinished(ImportJob job) throws InterruptedException {
+        var deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            var state = importService.findJob(job.getId()).orElseThrow().getState();
+            if (state == ImportJob.State.COMPLETED || state == ImportJob.State.FAILED) {
+                return job.snapshot();
+            }
+            Thread.sleep(20);
+        }
+        return fail("import did not finish");
+    }
+}
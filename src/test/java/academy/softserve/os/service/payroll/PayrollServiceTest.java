@@ -0,0 +1,153 @@
+package academy.softserve.os.service.payroll;
+
+import academy.softserve.os.api.dto.PayrollLineDTO;
+import academy.softserve.os.repository.PriceRepository;
+import academy.softserve.os.repository.PriceRepository.JobPriceView;
+import academy.softserve.os.repository.TaskRepository;
+import academy.softserve.os.repository.TaskRepository.PayrollView;
+import academy.softserve.os.service.price.PriceBook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PayrollServiceTest {
+
+    private TaskRepository taskRepository;
+    private PayrollService payrollService;
+
+    @BeforeEach
+    void init() {
+        taskRepository = mock(TaskRepository.class);
+        var priceRepository = mock(PriceRepository.class);
+        when(priceRepository.findAllJobPriceViews()).thenReturn(List.of(
+                jobPrice(1L, 1L, "10", "2022-01-01"),
+                jobPrice(1L, 2L, "20", "2022-02-01"),
+                jobPrice(2L, 3L, "100", "2022-01-01")));
+        payrollService = new PayrollService(taskRepository, new PriceBook(priceRepository, 100, 60_000), 2);
+    }
+
+    @AfterEach
+    void shutdown() {
+        payrollService.shutdown();
+    }
+
+    @Test
+    void givenTasksOfSeveralWorkers_exportPayroll_shouldSumWorkerPricesInWorkerOrder() {
+        //given
+        var from = LocalDate.parse("2022-01-01");
+        var to = LocalDate.parse("2022-02-28");
+        var manyTasks = IntStream.range(0, 3000)
+                .mapToObj(i -> task(3L, 1L, 0.1, "2022-02-10T09:00"))
+                .collect(Collectors.toList());
+        var tasks = new ArrayList<PayrollView>();
+        tasks.add(task(1L, 1L, 0.5, "2022-01-15T09:00"));
+        tasks.add(task(1L, 1L, 0.5, "2022-02-15T09:00"));
+        tasks.add(task(1L, null, 0.5, "2022-02-15T09:00"));
+        tasks.add(task(2L, 2L, 0.25, "2022-01-20T09:00"));
+        tasks.addAll(manyTasks);
+        when(taskRepository.streamPayrollViews(from.atStartOfDay(), LocalDate.parse("2022-03-01").atStartOfDay()))
+                .thenReturn(tasks.stream());
+
+        //when
+        var lines = payrollService.exportPayroll(from, to);
+
+        //then
+        assertThat(lines).extracting(PayrollLineDTO::getWorkerId).containsExactly(1L, 2L, 3L);
+        assertThat(lines.get(0).getEarnings()).isEqualByComparingTo("15.00");
+        assertThat(lines.get(0).getTaskCount()).isEqualTo(3);
+        assertThat(lines.get(0).getUnpricedTaskCount()).isEqualTo(1);
+        assertThat(lines.get(1).getEarnings()).isEqualByComparingTo("25.00");
+        assertThat(lines.get(2).getEarnings()).isEqualByComparingTo("6000.00");
+        assertThat(lines.get(2).getTaskCount()).isEqualTo(3000);
+    }
+
+    @Test
+    void givenNoTasks_exportPayroll_shouldEmitNothing() {
+        //given
+        var day = LocalDate.parse("2022-01-01");
+        when(taskRepository.streamPayrollViews(day.atStartOfDay(), day.plusDays(1).atStartOfDay()))
+                .thenReturn(Stream.empty());
+
+        //when
+        var lines = payrollService.exportPayroll(day, day);
+
+        //then
+        assertThat(lines).isEmpty();
+    }
+
+    private static PayrollView task(Long workerId, Long jobId, Double partFactor, String timeCreate) {
+        return new PayrollView() {
+            @Override
+            public Long getWorkerId() {
+                return workerId;
+            }
+
+            @Override
+            public String getFirstName() {
+                return "Worker";
+            }
+
+            @Override
+            public String getLastName() {
+                return String.valueOf(workerId);
+            }
+
+            @Override
+            public Long getJobId() {
+                return jobId;
+            }
+
+            @Override
+            public Double getPartFactor() {
+                return partFactor;
+            }
+
+            @Override
+            public LocalDateTime getTimeCreate() {
+                return LocalDateTime.parse(timeCreate);
+            }
+        };
+    }
+
+    private static JobPriceView jobPrice(Long jobId, Long id, String workerPrice, String dateSince) {
+        return new JobPriceView() {
+            @Override
+            public Long getJobId() {
+                return jobId;
+            }
+
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public BigDecimal getClientPrice() {
+                return new BigDecimal(workerPrice).multiply(BigDecimal.TEN);
+            }
+
+            @Override
+            public BigDecimal getWorkerPrice() {
+                return new BigDecimal(workerPrice);
+            }
+
+            @Override
+            public LocalDate getDateSince() {
+                return LocalDate.parse(dateSince);
+            }
+        };
+    }
+}
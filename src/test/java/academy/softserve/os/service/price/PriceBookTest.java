@@ -0,0 +1,165 @@
+package academy.softserve.os.service.price;
+
+import academy.softserve.os.api.dto.PriceDTO;
+import academy.softserve.os.repository.PriceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PriceBookTest {
+
+    private PriceRepository priceRepository;
+    private PriceBook priceBook;
+
+    @BeforeEach
+    void init() {
+        priceRepository = mock(PriceRepository.class);
+        priceBook = new PriceBook(priceRepository, 100, 60_000);
+        when(priceRepository.findDTOsByJobId(1L)).thenReturn(List.of(
+                price(10L, "100", "2022-01-01"),
+                price(11L, "110", "2022-06-01"),
+                price(12L, "120", "2022-06-01"),
+                price(13L, "130", "2023-01-01")));
+    }
+
+    @Test
+    void givenDateBetweenPrices_priceAt_shouldReturnLatestEffectivePrice() {
+        //given
+        var date = LocalDate.parse("2022-12-31");
+
+        //when
+        var price = priceBook.priceAt(1L, date);
+
+        //then
+        assertThat(price).map(PriceDTO::getId).contains(12L);
+    }
+
+    @Test
+    void givenEffectiveDates_priceAt_shouldIncludeTheEffectiveDay() {
+        //given
+        //when
+        //then
+        assertThat(priceBook.priceAt(1L, LocalDate.parse("2022-01-01"))).map(PriceDTO::getId).contains(10L);
+        assertThat(priceBook.priceAt(1L, LocalDate.parse("2023-01-01"))).map(PriceDTO::getId).contains(13L);
+        assertThat(priceBook.priceAt(1L, LocalDate.parse("2030-01-01"))).map(PriceDTO::getId).contains(13L);
+    }
+
+    @Test
+    void givenDateBeforeFirstPrice_priceAt_shouldReturnEmpty() {
+        //given
+        var date = LocalDate.parse("2021-12-31");
+
+        //when
+        var price = priceBook.priceAt(1L, date);
+
+        //then
+        assertThat(price).isEmpty();
+    }
+
+    @Test
+    void givenRepeatedLookups_priceAt_shouldLoadJobOnceUntilInvalidated() {
+        //given
+        var date = LocalDate.parse("2022-07-01");
+
+        //when
+        priceBook.priceAt(1L, date);
+        priceBook.priceAt(1L, date);
+        priceBook.invalidateAfterCommit(1L);
+        priceBook.priceAt(1L, date);
+
+        //then
+        verify(priceRepository, times(2)).findDTOsByJobId(1L);
+    }
+
+    @Test
+    void givenJobWithoutPrices_priceAt_shouldNotCacheJob() {
+        //given
+        when(priceRepository.findDTOsByJobId(2L)).thenReturn(List.of());
+
+        //when
+        var price = priceBook.priceAt(2L, LocalDate.now());
+
+        //then
+        assertThat(price).isEmpty();
+        assertThat(priceBook.size()).isZero();
+    }
+
+    @Test
+    void givenAllPrices_loadAll_shouldPriceEveryJobFromOneQuery() {
+        //given
+        var views = List.of(
+                jobPrice(1L, 10L, "2022-01-01"),
+                jobPrice(1L, 11L, "2022-06-01"),
+                jobPrice(2L, 20L, "2022-03-01"));
+        when(priceRepository.findAllJobPriceViews()).thenReturn(views);
+
+        //when
+        var snapshot = priceBook.loadAll();
+
+        //then
+        assertThat(snapshot.priceAt(1L, LocalDate.parse("2022-07-01"))).map(PriceDTO::getId).contains(11L);
+        assertThat(snapshot.priceAt(2L, LocalDate.parse("2022-02-01"))).isEmpty();
+        assertThat(snapshot.priceAt(3L, LocalDate.parse("2022-07-01"))).isEmpty();
+        assertThat(priceBook.size()).isEqualTo(2);
+        assertThat(priceBook.priceAt(2L, LocalDate.parse("2022-03-01"))).map(PriceDTO::getId).contains(20L);
+        verify(priceRepository, never()).findDTOsByJobId(2L);
+    }
+
+    @Test
+    void givenInvalidationDuringLoad_priceAt_shouldNotCacheStalePrices() {
+        //given
+        when(priceRepository.findDTOsByJobId(2L)).thenAnswer(invocation -> {
+            priceBook.invalidateAfterCommit(2L);
+            return List.of(price(20L, "200", "2022-01-01"));
+        });
+
+        //when
+        priceBook.priceAt(2L, LocalDate.parse("2022-02-01"));
+
+        //then
+        assertThat(priceBook.size()).isZero();
+    }
+
+    @Test
+    void givenMoreJobsThanCacheSize_loadAll_shouldKeepCacheBounded() {
+        //given
+        priceBook = new PriceBook(priceRepository, 1, 60_000);
+        var views = List.of(
+                jobPrice(1L, 10L, "2022-01-01"),
+                jobPrice(2L, 20L, "2022-03-01"));
+        when(priceRepository.findAllJobPriceViews()).thenReturn(views);
+
+        //when
+        var snapshot = priceBook.loadAll();
+
+        //then
+        assertThat(priceBook.size()).isEqualTo(1);
+        assertThat(snapshot.priceAt(1L, LocalDate.parse("2022-07-01"))).map(PriceDTO::getId).contains(10L);
+        assertThat(snapshot.priceAt(2L, LocalDate.parse("2022-07-01"))).map(PriceDTO::getId).contains(20L);
+    }
+
+    private static PriceRepository.JobPriceView jobPrice(Long jobId, Long id, String dateSince) {
+        var view = mock(PriceRepository.JobPriceView.class);
+        when(view.getJobId()).thenReturn(jobId);
+        when(view.getId()).thenReturn(id);
+        when(view.getClientPrice()).thenReturn(BigDecimal.TEN);
+        when(view.getWorkerPrice()).thenReturn(BigDecimal.ONE);
+        when(view.getDateSince()).thenReturn(LocalDate.parse(dateSince));
+        return view;
+    }
+
+    private static PriceDTO price(Long id, String clientPrice, String dateSince) {
+        return new PriceDTO(id, new BigDecimal(clientPrice), new BigDecimal(clientPrice).subtract(BigDecimal.TEN),
+                LocalDate.parse(dateSince));
+    }
+}
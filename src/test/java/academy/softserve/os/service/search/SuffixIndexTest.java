@@ -0,0 +1,102 @@
+package academy.softserve.os.service.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuffixIndexTest {
+    private SuffixIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SuffixIndex();
+        index.put(1L, "Ron Poll");
+        index.put(2L, "PolRon");
+        index.put(3L, "Pol");
+        index.put(4L, "Ron");
+    }
+
+    @Test
+    void givenInfixQuery_search_shouldReturnPrefixMatchesFirstAndShorterNamesFirst() {
+        //when
+        var result = index.search("POL", 10);
+
+        //then
+        assertThat(result).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void givenLimit_search_shouldReturnTopMatchesOnly() {
+        //when
+        var result = index.search("ron", 2);
+
+        //then
+        assertThat(result).containsExactly(4L, 1L);
+    }
+
+    @Test
+    void givenRemovedAndReplacedNames_search_shouldReflectLatestState() {
+        //when
+        index.remove(3L);
+        index.put(4L, "Apollo");
+
+        //then
+        assertThat(index.search("pol", 10)).containsExactly(2L, 4L, 1L);
+        assertThat(index.search("ron", 10)).containsExactly(1L, 2L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void givenEmptyQuery_search_shouldReturnShortestNamesFirst() {
+        //when
+        var result = index.search("", 3);
+
+        //then
+        assertThat(result).containsExactly(3L, 4L, 2L);
+    }
+
+    @Test
+    void givenManyNames_search_shouldRankLikeAFullSortForShortAndLongQueries() {
+        //given
+        var random = new Random(42);
+        var names = new HashMap<Long, String>();
+        for (var id = 10L; id < 2_000L; id++) {
+            var name = new StringBuilder();
+            var length = 3 + random.nextInt(12);
+            for (var i = 0; i < length; i++) {
+                name.append((char) ('a' + random.nextInt(6)));
+            }
+            names.put(id, name.toString());
+            index.put(id, name.toString());
+        }
+        names.put(1L, "ron poll");
+        names.put(2L, "polron");
+        names.put(3L, "pol");
+        names.put(4L, "ron");
+
+        for (var query : List.of("", "a", "ab", "fed", "cabbage", "pol")) {
+            //when
+            var result = index.search(query, 5);
+
+            //then
+            var expected = names.entrySet().stream()
+                    .filter(entry -> entry.getValue().contains(query))
+                    .sorted(Comparator.<Map.Entry<Long, String>>comparingInt(entry -> entry.getValue().startsWith(query) ? 0 : 1)
+                            .thenComparingInt(entry -> entry.getValue().length())
+                            .thenComparing(Map.Entry::getValue)
+                            .thenComparing(Map.Entry::getKey))
+                    .limit(5)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+            assertThat(result).as(query).isEqualTo(expected);
+        }
+    }
+}
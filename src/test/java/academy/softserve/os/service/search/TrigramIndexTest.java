@@ -0,0 +1,65 @@
+package academy.softserve.os.service.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TrigramIndexTest {
+    private TrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex();
+        index.put(1L, "Water cooler");
+        index.put(2L, "Cooler");
+        index.put(3L, "Cooler fan");
+        index.put(4L, "Watercooler");
+        index.put(5L, "Heater");
+    }
+
+    @Test
+    void givenQuery_search_shouldReturnContainingTextsRankedByMatchQuality() {
+        //when
+        var result = index.search("COOLER");
+
+        //then
+        assertThat(result).containsExactly(2L, 3L, 1L, 4L);
+    }
+
+    @Test
+    void givenTrigramsInWrongOrder_search_shouldNotReturnText() {
+        //given
+        index.put(6L, "lercoo");
+
+        //when
+        var result = index.search("cooler");
+
+        //then
+        assertThat(result).doesNotContain(6L);
+    }
+
+    @Test
+    void givenReplacedAndRemovedTexts_search_shouldReflectLatestState() {
+        //when
+        index.put(5L, "Cooler heater");
+        index.remove(2L);
+
+        //then
+        assertThat(index.search("cooler")).containsExactly(3L, 5L, 1L, 4L);
+        assertThat(index.search("heater")).isEqualTo(List.of(5L));
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    void givenTooShortQuery_search_shouldThrowException() {
+        //when
+        var exception = assertThrows(IllegalArgumentException.class, () -> index.search("co"));
+
+        //then
+        assertThat(exception.getMessage()).isEqualTo("Query must contain at least 3 characters");
+    }
+}